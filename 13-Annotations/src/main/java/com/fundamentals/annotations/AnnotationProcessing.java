@@ -3,6 +3,7 @@ package com.fundamentals.annotations;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.IntSupplier;
 
 /**
  * =====================================================
@@ -32,6 +33,7 @@ public class AnnotationProcessing {
         processFieldAnnotations();
         processParameterAnnotations();
         buildSimpleValidator();
+        compareCompiledValidator();
 
         System.out.println("✓ Tüm annotation processing örnekleri tamamlandı!");
     }
@@ -183,7 +185,24 @@ public class AnnotationProcessing {
         System.out.println();
     }
 
+    // Sınıf başına bir kez derlenmiş kontrol listesi ile (CompiledValidator)
     private static void validateObject(Object obj) {
+        printErrors(CompiledValidator.validateObject(obj));
+    }
+
+    private static void printErrors(List<String> errors) {
+        if (errors.isEmpty()) {
+            System.out.println("    ✅ Doğrulama başarılı!");
+        } else {
+            System.out.println("    ❌ Doğrulama hataları:");
+            for (String error : errors) {
+                System.out.println("       - " + error);
+            }
+        }
+    }
+
+    // Her çağrıda reflection: alanları ve annotation'ları yeniden okur
+    static List<String> validateReflectively(Object obj) {
         Field[] fields = obj.getClass().getDeclaredFields();
         List<String> errors = new ArrayList<>();
 
@@ -219,15 +238,81 @@ public class AnnotationProcessing {
                 e.printStackTrace();
             }
         }
+        return errors;
+    }
 
-        if (errors.isEmpty()) {
-            System.out.println("    ✅ Doğrulama başarılı!");
-        } else {
-            System.out.println("    ❌ Doğrulama hataları:");
-            for (String error : errors) {
-                System.out.println("       - " + error);
+    // ==================== 6. DERLENMİŞ VALIDATOR KARŞILAŞTIRMASI ====================
+    static final int VALIDATION_OBJECTS = 200_000;
+
+    /**
+     * Aynı User listesi (%10 geçersiz) üç yolla doğrulanır: her nesnede
+     * reflection, CompiledValidator.validate ve validateBatch.
+     * JMH yerine basit ısınma + ölçüm döngüsü; sonuçlar yaklaşıktır.
+     */
+    public static void compareCompiledValidator() {
+        System.out.println("6️⃣ DERLENMİŞ VALIDATOR KARŞILAŞTIRMASI");
+        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+
+        List<User> users = new ArrayList<>(VALIDATION_OBJECTS);
+        Random random = new Random(42);
+        for (int i = 0; i < VALIDATION_OBJECTS; i++) {
+            boolean invalid = random.nextInt(10) == 0;
+            users.add(invalid
+                    ? new User("kullanici" + i, "", -random.nextInt(100) - 1)
+                    : new User("kullanici" + i + "@example.com", "Kullanıcı " + i, random.nextInt(90)));
+        }
+
+        CompiledValidator<User> validator = CompiledValidator.of(User.class);
+        System.out.println("  User için derlenen kontrol sayısı: " + validator.checkCount());
+
+        long reflective = measure(() -> {
+            int invalid = 0;
+            for (User user : users) {
+                invalid += validateReflectively(user).isEmpty() ? 0 : 1;
+            }
+            return invalid;
+        });
+        long compiled = measure(() -> {
+            // validateBatch ile aynı sonuç: geçersizlerin hataları saklanır
+            Map<Integer, List<String>> invalid = new LinkedHashMap<>();
+            for (int i = 0; i < users.size(); i++) {
+                List<String> errors = validator.validate(users.get(i));
+                if (!errors.isEmpty()) {
+                    invalid.put(i, errors);
+                }
             }
+            return invalid.size();
+        });
+        long batch = measure(() -> validator.validateBatch(users).size());
+
+        System.out.printf("  %-28s %10s %10s%n", "Yöntem", "ns/nesne", "Hızlanma");
+        System.out.printf("  %-28s %10.1f %10s%n", "Reflection (her nesnede)", reflective / (double) VALIDATION_OBJECTS,
+                "1.0x");
+        System.out.printf("  %-28s %10.1f %9.1fx%n", "CompiledValidator.validate", compiled / (double) VALIDATION_OBJECTS,
+                reflective / (double) compiled);
+        System.out.printf("  %-28s %10.1f %9.1fx%n", "validateBatch", batch / (double) VALIDATION_OBJECTS,
+                reflective / (double) batch);
+        System.out.println("  Geçersiz nesne: " + validator.validateBatch(users).size()
+                + " (reflection: " + users.stream().filter(u -> !validateReflectively(u).isEmpty()).count() + ")");
+        System.out.println();
+    }
+
+    // 3 ısınma turu, ardından 5 turun en iyisi (nanosaniye)
+    private static long measure(IntSupplier run) {
+        int sink = 0;
+        for (int i = 0; i < 3; i++) {
+            sink += run.getAsInt();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            sink += run.getAsInt();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == 42) {
+            System.out.print(""); // JIT'in döngüyü silmemesi için sonuç kullanılır
         }
+        return best;
     }
 }
 
@@ -277,12 +362,6 @@ public class AnnotationProcessing {
 @interface Id {
 }
 
-@Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
-@interface NotNull {
-    String message() default "Bu alan boş olamaz";
-}
-
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 @interface Size {
@@ -291,19 +370,6 @@ public class AnnotationProcessing {
     int max() default Integer.MAX_VALUE;
 }
 
-@Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
-@interface Email {
-}
-
-@Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
-@interface Min {
-    long value();
-
-    String message() default "Minimum değer aşıldı";
-}
-
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
 @interface PathVariable {
@@ -0,0 +1,285 @@
+package com.fundamentals.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * =====================================================
+ * DERLENMİŞ (CACHE'Lİ) VALIDATOR
+ * =====================================================
+ *
+ * AnnotationProcessing.validateObject her nesnede getDeclaredFields(),
+ * isAnnotationPresent()/getAnnotation() ve field.get() çağırır. Aynı
+ * sınıfın milyonlarca nesnesi doğrulanırken bu bilgi hiç değişmez.
+ *
+ * Bu motor her sınıf için annotation'ları BİR KEZ okur ve düz bir kontrol
+ * listesine "derler":
+ * - Her kontrol, önceden çözülmüş bir MethodHandle getter taşır
+ * - @Min primitive alanlarda long döndüren getter kullanır (boxing yok)
+ * - @Email için regex yerine aynı kuralı uygulayan elle yazılmış tarayıcı
+ *   (String.matches her çağrıda Pattern derler ve Matcher ayırır)
+ * - Sonuç ClassValue içinde sınıfa bağlı saklanır: sonraki çağrılar tek
+ *   bir ClassValue.get'tir, sınıf yükleyici kapanınca cache de serbest kalır
+ *
+ * Doğrulama sırasında hiç reflection araması yapılmaz; geçerli nesne için
+ * hiç nesne ayrılmaz (boş List.of()).
+ *
+ * Not: validateReflectively gibi sadece sınıfın kendi alanlarına
+ * (getDeclaredFields) bakılır; annotation'lı static alanlar da (nesneden
+ * bağımsız getter ile) kontrol edilir.
+ *
+ * @author Java Fundamentals
+ */
+public final class CompiledValidator<T> {
+
+    private static final Set<Class<?>> INTEGRAL = Set.of(long.class, int.class, short.class, byte.class);
+
+    private static final ClassValue<CompiledValidator<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected CompiledValidator<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final Check[] checks;
+
+    private CompiledValidator(Class<T> type, Check[] checks) {
+        this.type = type;
+        this.checks = checks;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CompiledValidator<T> of(Class<T> type) {
+        return (CompiledValidator<T>) CACHE.get(type);
+    }
+
+    /**
+     * Nesnenin gerçek sınıfının validator'ı ile doğrular.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static List<String> validateObject(Object obj) {
+        return ((CompiledValidator) CACHE.get(obj.getClass())).validate(obj);
+    }
+
+    // ==================== DOĞRULAMA ====================
+
+    /**
+     * Hata mesajlarını "alan: mesaj" biçiminde, alan sırasıyla döndürür;
+     * geçerliyse boş liste.
+     */
+    public List<String> validate(T obj) {
+        List<String> errors = null;
+        for (Check check : checks) {
+            String error = check.apply(obj);
+            if (error != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>(2);
+                }
+                errors.add(error);
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    /**
+     * Toplu doğrulama: sadece geçersiz nesneler döner (liste indeksi -> hatalar).
+     * Validator bir kez çözülür; her nesne için ClassValue araması yapılmaz.
+     */
+    public Map<Integer, List<String>> validateBatch(List<? extends T> objects) {
+        Map<Integer, List<String>> invalid = new LinkedHashMap<>();
+        int index = 0;
+        for (T obj : objects) {
+            List<String> errors = validate(obj);
+            if (!errors.isEmpty()) {
+                invalid.put(index, errors);
+            }
+            index++;
+        }
+        return invalid;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public int checkCount() {
+        return checks.length;
+    }
+
+    // ==================== DERLEME (SINIF BAŞINA BİR KEZ) ====================
+
+    private static <T> CompiledValidator<T> compile(Class<T> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<Check> checks = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            NotNull notNull = field.getAnnotation(NotNull.class);
+            Email email = field.getAnnotation(Email.class);
+            Min min = field.getAnnotation(Min.class);
+            if (notNull == null && email == null && min == null) {
+                continue;
+            }
+
+            field.setAccessible(true);
+            MethodHandle getter = getter(lookup, field);
+            String name = field.getName();
+            // validateObject ile aynı sıra: @NotNull, @Email, @Min
+            if (notNull != null) {
+                checks.add(new NotNullCheck(getter, name + ": " + notNull.message()));
+            }
+            if (email != null && field.getType().isAssignableFrom(String.class)) {
+                checks.add(new EmailCheck(getter, name + ": Geçersiz email formatı"));
+            }
+            if (min != null) {
+                String message = name + ": " + min.message();
+                Class<?> fieldType = field.getType();
+                if (INTEGRAL.contains(fieldType)) {
+                    checks.add(new PrimitiveMinCheck(primitiveGetter(lookup, field), min.value(), message));
+                } else if (!fieldType.isPrimitive() || fieldType == float.class || fieldType == double.class) {
+                    checks.add(new NumberMinCheck(getter, min.value(), message));
+                }
+                // boolean/char: validateObject'te Number olmadıkları için kontrol edilmez
+            }
+        }
+        return new CompiledValidator<>(type, checks.toArray(new Check[0]));
+    }
+
+    // (Object)Object biçiminde getter; primitive değer box'lanır
+    private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) {
+        return unreflect(lookup, field).asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    // (Object)long biçiminde getter: int -> long genişletme, boxing yok
+    private static MethodHandle primitiveGetter(MethodHandles.Lookup lookup, Field field) {
+        return unreflect(lookup, field).asType(MethodType.methodType(long.class, Object.class));
+    }
+
+    // Static alanın getter'ı parametresizdir; nesne parametresi eklenip yok sayılır
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Field field) {
+        try {
+            MethodHandle getter = lookup.unreflectGetter(field);
+            return Modifier.isStatic(field.getModifiers())
+                    ? MethodHandles.dropArguments(getter, 0, Object.class)
+                    : getter;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Alan okunamıyor: " + field, e);
+        }
+    }
+
+    // ==================== KONTROLLER ====================
+
+    /**
+     * Tek bir (alan, kısıt) çifti. Hata varsa hazır mesajı, yoksa null döner.
+     */
+    private abstract static class Check {
+        final MethodHandle getter;
+        final String message;
+
+        Check(MethodHandle getter, String message) {
+            this.getter = getter;
+            this.message = message;
+        }
+
+        abstract String apply(Object obj);
+
+        final Object read(Object obj) {
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Alan okunamadı: " + message, e);
+            }
+        }
+    }
+
+    private static final class NotNullCheck extends Check {
+        NotNullCheck(MethodHandle getter, String message) {
+            super(getter, message);
+        }
+
+        @Override
+        String apply(Object obj) {
+            Object value = read(obj);
+            return value == null || (value instanceof String s && s.isEmpty()) ? message : null;
+        }
+    }
+
+    private static final class EmailCheck extends Check {
+        EmailCheck(MethodHandle getter, String message) {
+            super(getter, message);
+        }
+
+        @Override
+        String apply(Object obj) {
+            return read(obj) instanceof String s && !isEmail(s) ? message : null;
+        }
+    }
+
+    /**
+     * "^[A-Za-z0-9+_.-]+@(.+)$" ile aynı sonuç: '@' öncesi boş olmayan ve
+     * sadece izinli karakterler, sonrası boş olmayan ve satır sonu içermeyen
+     * herhangi bir metin ('.' satır sonu ile eşleşmez).
+     */
+    static boolean isEmail(String s) {
+        int at = 0;
+        while (at < s.length() && isLocalChar(s.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at >= s.length() - 1 || s.charAt(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static final class NumberMinCheck extends Check {
+        private final long min;
+
+        NumberMinCheck(MethodHandle getter, long min, String message) {
+            super(getter, message);
+            this.min = min;
+        }
+
+        @Override
+        String apply(Object obj) {
+            return read(obj) instanceof Number n && n.longValue() < min ? message : null;
+        }
+    }
+
+    private static final class PrimitiveMinCheck extends Check {
+        private final long min;
+
+        PrimitiveMinCheck(MethodHandle getter, long min, String message) {
+            super(getter, message);
+            this.min = min;
+        }
+
+        @Override
+        String apply(Object obj) {
+            long value;
+            try {
+                value = (long) getter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Alan okunamadı: " + message, e);
+            }
+            return value < min ? message : null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fundamentals.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sayısal alan en az value olmalı.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@interface Min {
+    long value();
+
+    String message() default "Minimum değer aşıldı";
+}
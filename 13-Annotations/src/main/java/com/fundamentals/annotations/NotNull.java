@@ -0,0 +1,16 @@
+package com.fundamentals.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Alan null (String ise boş) olamaz.
+ * AnnotationProcessing.validateObject ve CompiledValidator tarafından okunur.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@interface NotNull {
+    String message() default "Bu alan boş olamaz";
+}
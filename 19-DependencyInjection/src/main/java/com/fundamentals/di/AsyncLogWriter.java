@@ -0,0 +1,298 @@
+package com.fundamentals.di;
+
+import java.io.BufferedWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ASENKRON, TOPLU LOG YAZICI
+ *
+ * log() cagiran thread'de sadece mesaji halka tampona koyar; diske/konsola
+ * yazma tek bir tuketici thread'de, toplu ve tamponlu yapilir (batch basina
+ * bir flush).
+ *
+ * Halka tampon: sinirli, kilitsiz MPSC (cok ureticili, tek tuketicili).
+ * Her slotun bir sira numarasi vardir (Vyukov):
+ * - uretici: tail'i CAS ile bir artirir, slota yazar, slot sirasini pos+1 yapar
+ * - tuketici: slot sirasi head+1 ise okur, sirayi head+kapasite yapar (bos)
+ *
+ * Tampon doluysa OverflowPolicy:
+ * - BLOCK:  yer acilana kadar bekler (mesaj kaybolmaz, cagiran yavaslar)
+ * - DROP:   mesaj atilir
+ * - SAMPLE: tampon yari doluyken her sampleRate mesajdan biri alinir,
+ *           tamamen doluysa atilir
+ * Atilan mesaj sayisi cikisa tek satir olarak yazilir.
+ *
+ * true donen her log() cagrisinin mesaji yazilir: close() once yeni
+ * mesajlari reddeder, kuyruga yazmakta olan ureticileri bekler, sonra
+ * tuketici son kez bosaltir. Kapatilmazsa JVM kapanirken shutdown hook
+ * ile bosaltilir.
+ */
+public final class AsyncLogWriter implements AutoCloseable {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP, SAMPLE
+    }
+
+    private final AtomicReferenceArray<String> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // Sadece tuketici yazar; ureticiler doluluk tahmini icin okur
+
+    private final OverflowPolicy policy;
+    private final int sampleRate;
+    private final Writer out;
+    private final Thread consumer;
+    private final Thread shutdownHook;
+    private volatile boolean consumerParked;
+    private volatile boolean closed;
+    private volatile boolean stopping; // closed + icerideki ureticiler bitti: tuketici son kez bosaltir
+    // closed kontrolu ile offer arasindaki ureticiler; close() sifiri tutarli okumali (LongAdder.sum() okumaz)
+    private final AtomicLong producers = new AtomicLong();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private long reportedDrops;
+
+    private AsyncLogWriter(Builder builder, Writer out) {
+        int capacity = builder.capacity <= 2 ? 2 : Integer.highestOneBit(builder.capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.policy = builder.policy;
+        this.sampleRate = builder.sampleRate;
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out, 1 << 16);
+
+        this.consumer = new Thread(this::consumeLoop, builder.name);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+        this.shutdownHook = new Thread(this::close, builder.name + "-flush");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    // ==========================================
+    // URETICI
+    // ==========================================
+
+    /**
+     * Mesaji kuyruga koyar; kabul edilmezse (DROP/SAMPLE veya kapali) false.
+     * null mesaj kabul edilmez.
+     */
+    public boolean log(String message) {
+        if (message == null) {
+            throw new NullPointerException("Log mesaji null olamaz");
+        }
+        // Once kayit, sonra closed kontrolu: close() ya bu ureticiyi bekler ya da uretici closed'i gorur
+        producers.incrementAndGet();
+        try {
+            return enqueue(message);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    private boolean enqueue(String message) {
+        if (closed) {
+            dropped.increment();
+            return false;
+        }
+        if (policy == OverflowPolicy.SAMPLE && pending() > mask / 2
+                && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            dropped.increment();
+            return false;
+        }
+        while (!offer(message)) {
+            if (policy != OverflowPolicy.BLOCK || closed) {
+                dropped.increment();
+                return false;
+            }
+            wakeConsumer();
+            LockSupport.parkNanos(10_000);
+        }
+        if (consumerParked) {
+            wakeConsumer();
+        }
+        return true;
+    }
+
+    private boolean offer(String message) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, message);
+                    // volatile yazma: tuketicinin consumerParked kontrolu ile siralanir
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // Dolu: slot henuz tuketilmedi
+            }
+            // diff > 0: baska uretici aldi, tekrar dene
+        }
+    }
+
+    private long pending() {
+        return tail.get() - head;
+    }
+
+    private void wakeConsumer() {
+        LockSupport.unpark(consumer);
+    }
+
+    // ==========================================
+    // TUKETICI
+    // ==========================================
+
+    private void consumeLoop() {
+        while (true) {
+            int batch = drain();
+            if (batch > 0) {
+                continue;
+            }
+            if (stopping) {
+                break;
+            }
+            consumerParked = true;
+            // Park oncesi son kontrol: uretici consumerParked'i gormeden yazmis olabilir
+            if (!isReadable()) {
+                LockSupport.parkNanos(this, 10_000_000);
+            }
+            consumerParked = false;
+        }
+        drain();
+    }
+
+    private boolean isReadable() {
+        int index = (int) head & mask;
+        return sequences.get(index) == head + 1;
+    }
+
+    // Hazir mesajlari yazar ve bir kez flush eder
+    private int drain() {
+        long position = head;
+        int count = 0;
+        try {
+            // En fazla bir tampon dolusu: surekli yazan ureticiler flush'i geciktirmesin
+            while (count <= mask) {
+                int index = (int) position & mask;
+                if (sequences.get(index) != position + 1) {
+                    break;
+                }
+                String message = slots.get(index);
+                slots.lazySet(index, null);
+                sequences.lazySet(index, position + mask + 1);
+                position++;
+                out.write(message);
+                out.write('\n');
+                count++;
+            }
+            head = position;
+            long drops = dropped.sum();
+            boolean reportDrops = drops != reportedDrops;
+            if (reportDrops) {
+                out.write("[AsyncLog] " + (drops - reportedDrops) + " mesaj atlandi\n");
+                reportedDrops = drops;
+            }
+            if (count > 0 || reportDrops) {
+                out.flush();
+            }
+        } catch (Throwable e) {
+            // Error dahil: hatali mesaj atlanir; tuketici thread'i olurse BLOCK ureticileri sonsuza kadar bekler
+            head = position;
+            System.err.println("[AsyncLog] Yazma hatasi: " + e);
+        }
+        written.add(count);
+        return count;
+    }
+
+    // ==========================================
+    // ISTATISTIK / KAPATMA
+    // ==========================================
+
+    public Stats stats() {
+        return new Stats(written.sum(), dropped.sum());
+    }
+
+    public record Stats(long written, long dropped) {
+    }
+
+    /**
+     * Kuyruktaki her seyi yazar ve flush eder; Writer kapatilmaz (sahibi kapatir).
+     * Birden fazla cagrilabilir.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // closed'i gormeden offer'a giren ureticiler bitene kadar tuketici calismaya devam eder
+        while (producers.get() != 0) {
+            wakeConsumer();
+            LockSupport.parkNanos(10_000);
+        }
+        stopping = true;
+        wakeConsumer();
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // JVM zaten kapaniyor; hook kendisi calisacak
+            }
+        }
+    }
+
+    // ==========================================
+    // BUILDER
+    // ==========================================
+
+    public static class Builder {
+        private String name = "async-log";
+        private int capacity = 8192;
+        private OverflowPolicy policy = OverflowPolicy.BLOCK;
+        private int sampleRate = 10;
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        // 2'nin kuvvetine yuvarlanir
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        // SAMPLE: tampon yari doluyken her kac mesajdan biri alinir
+        public Builder sampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public AsyncLogWriter build(Writer out) {
+            if (capacity < 2 || sampleRate < 1) {
+                throw new IllegalArgumentException("capacity >= 2 ve sampleRate >= 1 olmali");
+            }
+            return new AsyncLogWriter(this, out);
+        }
+    }
+}
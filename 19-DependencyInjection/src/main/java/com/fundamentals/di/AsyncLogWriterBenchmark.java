@@ -0,0 +1,124 @@
+package com.fundamentals.di;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * ASENKRON LOG OLCUMU
+ *
+ * AsyncLogWriter: log() cagiran tarafindaki gecikme.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.AsyncLogWriterBenchmark"
+ */
+public class AsyncLogWriterBenchmark {
+
+    public static void main(String[] args) {
+        asyncLogging();
+    }
+
+    // ==========================================
+    // 17. ASENKRON LOG: CAGIRAN TARAFI GECIKME
+    // ==========================================
+
+    static final int LOG_MESSAGES = 400_000;
+
+    /**
+     * SetterInjection.Logger ile dosyaya LOG_MESSAGES mesaj; log() cagrisinin
+     * cagiran thread'deki suresi (nanoTime maliyeti ~0.1 us dahil):
+     * - senkron: ConsoleOutput gibi mesaj basina println (autoflush PrintStream)
+     * - asenkron: AsyncOutput, farkli tasma politikalari
+     * "Kapatma" asenkron modda kuyrugun bosaltilip flush edilmesi icin gecen sure.
+     */
+    static void asyncLogging() {
+        System.out.println("\n17. ASENKRON LOG: CAGIRAN TARAFI GECIKME");
+        System.out.println("-".repeat(40));
+
+        System.out.printf("   %-16s %6s %12s %9s %9s %9s %10s %9s%n", "Mod", "Thread", "Mesaj/s", "p50 us",
+                "p99 us", "p99.9 us", "Atilan", "Kapatma");
+        for (int threads : new int[] { 1, 8 }) {
+            logRun("senkron", threads, null, 0);
+            logRun("asenkron BLOCK", threads, AsyncLogWriter.OverflowPolicy.BLOCK, 8192);
+            logRun("asenkron DROP", threads, AsyncLogWriter.OverflowPolicy.DROP, 1024);
+            logRun("asenkron SAMPLE", threads, AsyncLogWriter.OverflowPolicy.SAMPLE, 1024);
+        }
+    }
+
+    private static void logRun(String mode, int threads, AsyncLogWriter.OverflowPolicy policy, int capacity) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("async-log", ".txt");
+            PrintStream syncStream = null;
+            SetterInjection.AsyncOutput asyncOutput = null;
+            SetterInjection.Logger logger = new SetterInjection.Logger();
+            if (policy == null) {
+                PrintStream stream = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8);
+                syncStream = stream;
+                logger.setOutput(message -> stream.println("   [File] " + message));
+            } else {
+                asyncOutput = new SetterInjection.AsyncOutput(new AsyncLogWriter.Builder()
+                        .capacity(capacity).overflowPolicy(policy)
+                        .build(Files.newBufferedWriter(file, StandardCharsets.UTF_8)));
+                logger.setOutput(asyncOutput);
+            }
+
+            int perThread = LOG_MESSAGES / threads;
+            long[][] latencies = new long[threads][perThread];
+            CountDownLatch done = new CountDownLatch(threads);
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                long[] own = latencies[t];
+                int threadNo = t;
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        long begin = System.nanoTime();
+                        logger.log("Siparis islendi: ORD-" + i + " thread=" + threadNo);
+                        own[i] = System.nanoTime() - begin;
+                    }
+                    done.countDown();
+                });
+                thread.setDaemon(true);
+                thread.start();
+            }
+            done.await();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long closeStart = System.nanoTime();
+            long droppedMessages = 0;
+            if (asyncOutput != null) {
+                asyncOutput.close();
+                droppedMessages = asyncOutput.stats().dropped();
+            } else {
+                syncStream.close();
+            }
+            String closeTime = asyncOutput == null ? "-"
+                    : String.format("%.1f ms", (System.nanoTime() - closeStart) / 1e6);
+
+            long[] all = new long[perThread * threads];
+            for (int t = 0; t < threads; t++) {
+                System.arraycopy(latencies[t], 0, all, t * perThread, perThread);
+            }
+            Arrays.sort(all);
+            System.out.printf("   %-16s %6d %,12.0f %9.2f %9.2f %9.2f %,10d %9s%n", mode, threads,
+                    all.length / seconds, all[all.length / 2] / 1e3, all[(int) (all.length * 0.99)] / 1e3,
+                    all[(int) (all.length * 0.999)] / 1e3, droppedMessages, closeTime);
+        } catch (IOException e) {
+            System.out.println("   Hata: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    System.out.println("   Silinemedi: " + file);
+                }
+            }
+        }
+    }
+}
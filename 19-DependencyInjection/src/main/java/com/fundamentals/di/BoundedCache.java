@@ -0,0 +1,623 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * SINIRLI, FREKANS BILINCLI CACHE (W-TinyLFU)
+ *
+ * Modul icindeki ICache implementasyonlarinin ortak depolama motoru.
+ * HashMap tabanli cache'ler sinirsiz buyur; bu cache boyut veya agirlik
+ * sinirina ulasinca hangi girisin kalacagina erisim sikligina bakarak
+ * karar verir (Caffeine'in kullandigi politika, sadelestirilmis hali).
+ *
+ * Yapi:
+ * - Window LRU (%1): yeni girisler once buraya girer, kisa sureli patlamalari yakalar
+ * - Main SLRU (%99): probation (%20) + protected (%80)
+ * - Frequency sketch: 4-bit count-min sketch, periyodik olarak yarilanir (yaslanma)
+ * - Admission: window'dan tasan aday, probation'in en eski girisiyle (kurban)
+ *   karsilastirilir; sikligi daha yuksek olan kalir
+ *
+ * Eszamanlilik:
+ * - Okuma kilitsizdir: ConcurrentHashMap.get + erisim kaydi (kayipli, thread'lere
+ *   dagitilmis ring buffer'lar). Buffer'lar dolunca tryLock ile toplu islenir.
+ * - Yazma ve tahliye tek bir kilit altindadir (yazmalar okumalardan cok daha seyrek).
+ *
+ * Sure asimi:
+ * - expireAfterWrite (TTL) ve expireAfterAccess (TTI)
+ * - Suresi dolmus giris okunurken miss sayilir ve silinir; ayrica bakim
+ *   sirasinda LRU kuyruklarinin basindan temizlenir. cleanUp() tam tarama yapar.
+ *
+ * Not: Caffeine'deki window boyutunu ayarlayan hill climbing burada yok,
+ * window sabit %1'dir.
+ */
+public final class BoundedCache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 16;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+    private static final int STRIPES = ceilingPowerOfTwo(4 * Runtime.getRuntime().availableProcessors());
+
+    // Kuyruk tipleri
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+    private static final byte DEAD = 3;
+
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer[] readBuffers = new ReadBuffer[STRIPES];
+
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final long maximum;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final boolean expires; // Sure asimi yoksa okuma saat okumaz
+
+    // Asagidakiler sadece evictionLock altinda degisir
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedQueue = new AccessOrderDeque<>();
+    private final FrequencySketch sketch;
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private BoundedCache(Builder<K, V> builder) {
+        this.maximum = builder.maximum;
+        this.weigher = builder.weigher;
+        this.windowMaximum = Math.max(1, maximum / 100);
+        this.protectedMaximum = (long) ((maximum - windowMaximum) * 0.8);
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.expires = expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+        this.sketch = new FrequencySketch(maximum);
+        for (int i = 0; i < STRIPES; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    // ==========================================
+    // OKUMA (KILITSIZ)
+    // ==========================================
+
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (expires) {
+            long now = System.nanoTime();
+            if (isExpired(node, now)) {
+                misses.increment();
+                removeExpired(node);
+                return null;
+            }
+            if (expireAfterAccessNanos > 0) {
+                node.accessTime = now;
+            }
+        }
+        hits.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    // ==========================================
+    // YAZMA (TEK KILIT)
+    // ==========================================
+
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("Anahtar ve deger null olamaz");
+        }
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Agirlik negatif olamaz: " + weight);
+        }
+
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            Node<K, V> node = new Node<>(key, value, weight, System.nanoTime());
+            Node<K, V> prior = data.put(key, node);
+            sketch.increment(key.hashCode());
+
+            if (prior != null && prior.queue != DEAD) {
+                // Guncelleme: yeni giris eskisinin kuyrugundaki yerini alir
+                byte queue = prior.queue;
+                unlink(prior);
+                link(node, queue);
+            } else {
+                link(node, WINDOW);
+            }
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node != null && node.queue != DEAD) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Bekleyen erisim kayitlarini isler ve suresi dolmus tum girisleri siler.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            long now = System.nanoTime();
+            for (Node<K, V> node : data.values()) {
+                if (isExpired(node, now) && data.remove(node.key, node)) {
+                    unlink(node);
+                    expirations.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // ==========================================
+    // ISTATISTIK
+    // ==========================================
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    public record Stats(long hitCount, long missCount, long evictionCount, long expirationCount) {
+
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+
+    // Kilit altinda: mevcut toplam agirlik
+    public long weightedSize() {
+        evictionLock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // ==========================================
+    // ERISIM KAYDI VE BAKIM
+    // ==========================================
+
+    private void recordRead(Node<K, V> node) {
+        int probe = (int) Thread.currentThread().getId() * 0x9E3779B9;
+        ReadBuffer buffer = readBuffers[(probe >>> 16) & (STRIPES - 1)];
+
+        long head = buffer.readCounter;
+        long tail = buffer.writeCounter.get();
+        long pending = tail - head;
+        if (pending < READ_BUFFER_SIZE && buffer.writeCounter.compareAndSet(tail, tail + 1)) {
+            buffer.nodes.lazySet((int) (tail & READ_BUFFER_MASK), node);
+            pending++;
+        }
+        // Dolu buffer'da kayit duser (kayipli): siklik tahmini icin orneklem yeterli
+        if (pending >= READ_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer buffer : readBuffers) {
+            long head = buffer.readCounter;
+            long tail = buffer.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & READ_BUFFER_MASK);
+                @SuppressWarnings("unchecked")
+                Node<K, V> node = (Node<K, V>) buffer.nodes.get(index);
+                if (node == null) {
+                    break; // Yazan thread henuz yayinlamadi
+                }
+                buffer.nodes.lazySet(index, null);
+                onAccess(node);
+            }
+            buffer.readCounter = head;
+        }
+        expireQueueHeads();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                // Ikinci erisim: protected'a terfi
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                protectedWeight += node.weight;
+                demoteProtectedOverflow();
+            }
+            case PROTECTED -> protectedQueue.moveToBack(node);
+            default -> {
+                // Zaten silinmis
+            }
+        }
+    }
+
+    private void link(Node<K, V> node, byte queue) {
+        node.queue = queue;
+        totalWeight += node.weight;
+        switch (queue) {
+            case WINDOW -> {
+                window.addLast(node);
+                windowWeight += node.weight;
+            }
+            case PROBATION -> probation.addLast(node);
+            default -> {
+                protectedQueue.addLast(node);
+                protectedWeight += node.weight;
+                demoteProtectedOverflow();
+            }
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.queue == DEAD) {
+            return;
+        }
+        totalWeight -= node.weight;
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> probation.remove(node);
+            default -> {
+                protectedQueue.remove(node);
+                protectedWeight -= node.weight;
+            }
+        }
+        node.queue = DEAD;
+    }
+
+    private void demoteProtectedOverflow() {
+        while (protectedWeight > protectedMaximum) {
+            Node<K, V> demoted = protectedQueue.pollFirst();
+            protectedWeight -= demoted.weight;
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    /**
+     * 1. Window'dan tasanlar probation'a aday olarak gecer
+     * 2. Toplam agirlik siniri asildikca aday ile kurban (probation'in
+     *    en eskisi) sikliga gore yarisir, kaybeden tahliye edilir
+     */
+    private void evict() {
+        Node<K, V> firstCandidate = null;
+        while (windowWeight > windowMaximum) {
+            Node<K, V> candidate = window.pollFirst();
+            windowWeight -= candidate.weight;
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            if (firstCandidate == null) {
+                firstCandidate = candidate;
+            }
+        }
+
+        Node<K, V> candidate = firstCandidate;
+        while (totalWeight > maximum) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedQueue.peekFirst();
+                evictNode(victim != null ? victim : window.peekFirst());
+                continue;
+            }
+            if (candidate == null || candidate == victim || candidate.queue != PROBATION) {
+                // Yarisacak aday yok (orn: agirligi artan guncelleme)
+                evictNode(victim);
+                candidate = null;
+                continue;
+            }
+
+            Node<K, V> next = candidate.next;
+            if (admit(candidate.key, victim.key)) {
+                evictNode(victim);
+            } else {
+                evictNode(candidate);
+            }
+            candidate = next;
+        }
+    }
+
+    private boolean admit(K candidateKey, K victimKey) {
+        int candidateFrequency = sketch.frequency(candidateKey.hashCode());
+        int victimFrequency = sketch.frequency(victimKey.hashCode());
+        if (candidateFrequency > victimFrequency) {
+            return true;
+        }
+        // Hash flooding'e karsi: sik gorulen aday bazen rastgele kabul edilir
+        return candidateFrequency > 5 && ThreadLocalRandom.current().nextInt(128) == 0;
+    }
+
+    private void evictNode(Node<K, V> node) {
+        unlink(node);
+        if (data.remove(node.key, node)) {
+            evictions.increment();
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private void removeExpired(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            if (node.queue != DEAD && data.remove(node.key, node)) {
+                unlink(node);
+                expirations.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Kuyruklarin en eski girisleri: suresi dolanlari bastan temizle
+    private void expireQueueHeads() {
+        if (!expires) {
+            return;
+        }
+        long now = System.nanoTime();
+        expireHead(window, now);
+        expireHead(probation, now);
+        expireHead(protectedQueue, now);
+    }
+
+    private void expireHead(AccessOrderDeque<K, V> queue, long now) {
+        Node<K, V> node;
+        while ((node = queue.peekFirst()) != null && isExpired(node, now)) {
+            unlink(node);
+            if (data.remove(node.key, node)) {
+                expirations.increment();
+            }
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << -Integer.numberOfLeadingZeros(x - 1);
+    }
+
+    // ==========================================
+    // BUILDER
+    // ==========================================
+
+    public static class Builder<K, V> {
+        private long maximum = -1;
+        private ToIntBiFunction<? super K, ? super V> weigher = (k, v) -> 1;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+
+        // Giris sayisi siniri (her giris agirligi 1)
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximum = maximumSize;
+            return this;
+        }
+
+        // Agirlik siniri; weigher ile birlikte kullanilir (orn: byte cinsinden)
+        public Builder<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+            this.maximum = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<K, V> expireAfterWrite(Duration ttl) {
+            this.expireAfterWriteNanos = ttl.toNanos();
+            return this;
+        }
+
+        public Builder<K, V> expireAfterAccess(Duration tti) {
+            this.expireAfterAccessNanos = tti.toNanos();
+            return this;
+        }
+
+        public BoundedCache<K, V> build() {
+            if (maximum <= 0) {
+                throw new IllegalStateException("maximumSize veya maximumWeight zorunlu");
+            }
+            return new BoundedCache<>(this);
+        }
+    }
+
+    // ==========================================
+    // IC YAPILAR
+    // ==========================================
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int weight;
+        final long writeTime;
+        volatile long accessTime;
+
+        // evictionLock altinda
+        byte queue = DEAD;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    // Intrusive cift yonlu liste: bas = en eski erisim
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+
+        Node<K, V> peekFirst() {
+            return head;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    // Tek bir stripe: coklu yazan, tek okuyan (kilit sahibi) ring buffer
+    private static final class ReadBuffer {
+        final AtomicLong writeCounter = new AtomicLong();
+        final AtomicReferenceArray<Object> nodes = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        volatile long readCounter;
+    }
+
+    /**
+     * 4-bit count-min sketch. Her long 16 sayac tasir; her anahtar icin
+     * 4 farkli long'da birer sayac artirilir, tahmin en kucugudur.
+     * Ornek sayisi 10 x tablo boyutuna ulasinca tum sayaclar yarilanir,
+     * boylece eskiden populer olan anahtarlar zamanla unutulur.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        FrequencySketch(long maximum) {
+            int length = ceilingPowerOfTwo((int) Math.max(16, Math.min(maximum, 1 << 24)));
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = 10 * length;
+        }
+
+        int frequency(int hashCode) {
+            int hash = spread(hashCode);
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int offset = counterOffset(hash, i);
+                frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL));
+            }
+            return frequency;
+        }
+
+        void increment(int hashCode) {
+            int hash = spread(hashCode);
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = counterOffset(hash, i);
+                long mask = 0xfL << offset;
+                if ((table[index] & mask) != mask) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++size == sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            size /= 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        // long icindeki 16 sayactan hangisi (4 bit kaydirma)
+        private static int counterOffset(int hash, int i) {
+            return ((hash >>> (i << 3)) & 15) << 2;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.fundamentals.di;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * SINIRLI CACHE OLCUMU
+ *
+ * BoundedCache (W-TinyLFU) ile LRU: isabet orani ve okuma throughput'u.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.BoundedCacheBenchmark"
+ */
+public class BoundedCacheBenchmark {
+
+    public static void main(String[] args) {
+        boundedCacheZipf();
+    }
+
+    // ==========================================
+    // 10. SINIRLI CACHE (ZIPF IS YUKU)
+    // ==========================================
+
+    static final int ZIPF_KEYS = 100_000;
+    static final int ZIPF_TRACE_LENGTH = 2_000_000;
+
+    /**
+     * Zipf dagilimli erisimlerde (az sayida anahtar cok populer) isabet orani
+     * ve okuma throughput'u:
+     * - BoundedCache (W-TinyLFU)
+     * - LRU: LinkedHashMap(accessOrder) + synchronized
+     * Ikinci izde her 5 erisimden biri hic tekrarlanmayan bir anahtardir
+     * (tam tablo taramasi gibi); LRU bunlarla populer anahtarlari kaybeder.
+     */
+    static void boundedCacheZipf() {
+        System.out.println("\n10. SINIRLI CACHE (ZIPF IS YUKU)");
+        System.out.println("-".repeat(40));
+
+        Integer[] keys = new Integer[ZIPF_KEYS * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        int[] zipf = zipfTrace(ZIPF_KEYS, 0.9, ZIPF_TRACE_LENGTH, 42);
+        int[] zipfWithScan = zipf.clone();
+        int scanKey = ZIPF_KEYS;
+        for (int i = 0; i < zipfWithScan.length; i += 5) {
+            zipfWithScan[i] = scanKey++ % keys.length; // Populer olmayan, tek seferlik anahtarlar
+            if (scanKey == keys.length) {
+                scanKey = ZIPF_KEYS;
+            }
+        }
+
+        System.out.printf("   %-10s %-12s %14s %14s%n", "Boyut", "Iz", "W-TinyLFU", "LRU");
+        for (int size : new int[] { 1_000, 10_000 }) {
+            for (int trace = 0; trace < 2; trace++) {
+                int[] accesses = trace == 0 ? zipf : zipfWithScan;
+                BoundedCache<Integer, Integer> tinyLfu = new BoundedCache.Builder<Integer, Integer>()
+                        .maximumSize(size).build();
+                Map<Integer, Integer> lru = lruMap(size);
+                double tinyLfuHitRate = hitRate(accesses, keys, tinyLfu::get, tinyLfu::put);
+                double lruHitRate = hitRate(accesses, keys, lru::get, lru::put);
+                System.out.printf("   %-10d %-12s %13.1f%% %13.1f%%%n", size,
+                        trace == 0 ? "zipf 0.9" : "zipf + tarama", tinyLfuHitRate * 100, lruHitRate * 100);
+            }
+        }
+
+        // Okuma throughput'u: cache dolu, thread'ler izi farkli noktalardan okur
+        BoundedCache<Integer, Integer> tinyLfu = new BoundedCache.Builder<Integer, Integer>()
+                .maximumSize(10_000).build();
+        Map<Integer, Integer> lru = lruMap(10_000);
+        hitRate(zipf, keys, tinyLfu::get, tinyLfu::put);
+        hitRate(zipf, keys, lru::get, lru::put);
+
+        System.out.printf("%n   %-8s %18s %18s%n", "Thread", "W-TinyLFU ops/s", "LRU ops/s");
+        for (int threads = 1; threads <= 16; threads *= 4) {
+            double tinyLfuOps = DIBenchmarks.throughput(threads,
+                    zipfReader(zipf, keys, k -> DIBenchmarks.blackhole = tinyLfu.get(k)));
+            double lruOps = DIBenchmarks.throughput(threads,
+                    zipfReader(zipf, keys, k -> DIBenchmarks.blackhole = lru.get(k)));
+            System.out.printf("   %-8d %,18.0f %,18.0f%n", threads, tinyLfuOps, lruOps);
+        }
+        System.out.println("   BoundedCache: " + tinyLfu.stats());
+    }
+
+    // Erisim izini oynatir: miss ise kaynaktan gelmis gibi yazar
+    private static double hitRate(int[] accesses, Integer[] keys,
+            java.util.function.Function<Integer, Integer> get,
+            java.util.function.BiConsumer<Integer, Integer> put) {
+        long hitCount = 0;
+        for (int access : accesses) {
+            Integer key = keys[access];
+            if (get.apply(key) != null) {
+                hitCount++;
+            } else {
+                put.accept(key, key);
+            }
+        }
+        return (double) hitCount / accesses.length;
+    }
+
+    // Her thread izde kendi rastgele noktasindan baslar
+    private static Runnable zipfReader(int[] accesses, Integer[] keys, java.util.function.Consumer<Integer> read) {
+        ThreadLocal<int[]> cursor = ThreadLocal.withInitial(
+                () -> new int[] { new Random().nextInt(accesses.length) });
+        return () -> {
+            int[] position = cursor.get();
+            int index = position[0];
+            read.accept(keys[accesses[index]]);
+            position[0] = index + 1 == accesses.length ? 0 : index + 1;
+        };
+    }
+
+    private static Map<Integer, Integer> lruMap(int size) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(size * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    /**
+     * Zipf(s) dagilimindan "length" adet sira (0 = en populer) uretir.
+     * Kumulatif dagilim uzerinde ikili arama.
+     */
+    static int[] zipfTrace(int keyCount, double exponent, int length, long seed) {
+        double[] cumulative = new double[keyCount];
+        double sum = 0;
+        for (int rank = 0; rank < keyCount; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        Random random = new Random(seed);
+        int[] trace = new int[length];
+        for (int i = 0; i < length; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            trace[i] = index >= 0 ? index : Math.min(keyCount - 1, -index - 1);
+        }
+        return trace;
+    }
+}
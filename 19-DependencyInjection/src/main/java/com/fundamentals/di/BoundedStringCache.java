@@ -0,0 +1,50 @@
+package com.fundamentals.di;
+
+/**
+ * ICACHE IMPLEMENTASYONLARININ ORTAK DEPOSU
+ *
+ * Modulde her ornek kendi ICache arayuzunu tanimlar (ayni get/put imzasi).
+ * InMemoryCache/RedisCache siniflari bu sinifi genisletip kendi ICache'ini
+ * implement eder; depolama BoundedCache (W-TinyLFU) ile sinirlidir,
+ * varsayilan en fazla DEFAULT_MAXIMUM_SIZE giris.
+ *
+ * Eski HashMap tabanli cache'lerle ayni sozlesme: put(key, null) kabul
+ * edilir ve get null doner. BoundedCache null deger saklamadigi icin
+ * null, ozel bir isaret nesnesiyle tutulur. Anahtar null olamaz.
+ */
+class BoundedStringCache {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    // Kimlik ile karsilastirilir; kullanicinin "" degeriyle karismaz
+    private static final String NULL_VALUE = new String();
+
+    private final BoundedCache<String, String> store;
+
+    BoundedStringCache() {
+        this(new BoundedCache.Builder<String, String>().maximumSize(DEFAULT_MAXIMUM_SIZE).build());
+    }
+
+    // Farkli boyut / TTL icin hazir bir BoundedCache verilebilir
+    BoundedStringCache(BoundedCache<String, String> store) {
+        this.store = store;
+    }
+
+    public String get(String key) {
+        String value = store.get(key);
+        return value == NULL_VALUE ? null : value;
+    }
+
+    // Anahtar hic yazilmadiysa defaultValue; null yazildiysa null (Map.getOrDefault gibi)
+    String getOrDefault(String key, String defaultValue) {
+        String value = store.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value == NULL_VALUE ? null : value;
+    }
+
+    public void put(String key, String value) {
+        store.put(key, value == null ? NULL_VALUE : value);
+    }
+}
@@ -1,5 +1,22 @@
 package com.fundamentals.di;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * CONSTRUCTOR INJECTION
  * 
@@ -23,6 +40,9 @@ public class ConstructorInjection {
         multipleDependencies();
         requiredVsOptional();
         realWorldExample();
+        readThroughCache();
+        asyncOrderPipeline();
+        microBatching();
     }
 
     // ==========================================
@@ -219,12 +239,10 @@ public class ConstructorInjection {
         }
     }
 
-    static class RedisCache implements ICache {
-        private final java.util.Map<String, String> store = new java.util.HashMap<>();
-
+    static class RedisCache extends BoundedStringCache implements ICache {
         @Override
         public String get(String key) {
-            String value = store.get(key);
+            String value = super.get(key);
             if (value != null) {
                 System.out.println("   [Cache] HIT: " + key);
             }
@@ -233,7 +251,7 @@ public class ConstructorInjection {
 
         @Override
         public void put(String key, String value) {
-            store.put(key, value);
+            super.put(key, value);
             System.out.println("   [Cache] Yazildi: " + key);
         }
     }
@@ -241,22 +259,38 @@ public class ConstructorInjection {
     static class DataService {
         private final IDataSource dataSource; // Zorunlu
         private final ICache cache; // Opsiyonel
+        private final ReadThroughCache readThroughCache; // Opsiyonel
 
         // Constructor 1: Sadece zorunlu
         public DataService(IDataSource dataSource) {
-            this(dataSource, null);
+            this(dataSource, null, null);
         }
 
         // Constructor 2: Zorunlu + opsiyonel
         public DataService(IDataSource dataSource, ICache cache) {
+            this(dataSource, cache, null);
+        }
+
+        // Zorunlu + read-through cache (kaynaga gitme karari cache'te). Ayri isimli
+        // fabrika: ICache'li constructor ile overload olsaydi new DataService(source, null) belirsiz olurdu
+        public static DataService readThrough(IDataSource dataSource, ReadThroughCache readThroughCache) {
+            return new DataService(dataSource, null, readThroughCache);
+        }
+
+        private DataService(IDataSource dataSource, ICache cache, ReadThroughCache readThroughCache) {
             if (dataSource == null) {
                 throw new IllegalArgumentException("DataSource zorunludur!");
             }
             this.dataSource = dataSource;
             this.cache = cache;
+            this.readThroughCache = readThroughCache;
         }
 
         public String getData(String key) {
+            if (readThroughCache != null) {
+                return readThroughCache.get(key, dataSource);
+            }
+
             // Once cache kontrol (opsiyonel)
             if (cache != null) {
                 String cached = cache.get(key);
@@ -276,6 +310,164 @@ public class ConstructorInjection {
         }
     }
 
+    /**
+     * READ-THROUGH CACHE
+     *
+     * "Kontrol et -> yoksa getir -> yaz" akisinda populer bir anahtarin
+     * suresi doldugunda o anki tum istekler ayni anda miss alir ve kaynaga
+     * gider (cache stampede). Bu cache kaynaga gitme kararini kendisi verir:
+     * - Single-flight: ayni anahtar icin eszamanli miss'ler tek bir fetch'i bekler
+     * - Refresh-ahead: sure dolmadan refreshAhead once arka planda yenilenir,
+     *   okuyanlar eski degeri almaya devam eder, kimse beklemez
+     * - Negatif cache: fetch hatasi negativeTtl boyunca cache'lenir,
+     *   hata veren kaynak her istekte tekrar denenmez
+     * - Girisler BoundedCache'te: en fazla maximumKeys anahtar, suresi dolanlar
+     *   (expireAfterWrite) tahliye edilir; okunan her farkli anahtar sonsuza
+     *   kadar bellekte kalmaz
+     */
+    static final class ReadThroughCache {
+        private final BoundedCache<String, Entry> entries;
+        private final Map<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+        private final long ttlNanos;
+        private final long refreshAheadNanos;
+        private final long negativeTtlNanos;
+        private final Executor refreshExecutor;
+
+        final LongAdder hits = new LongAdder();
+        final LongAdder loads = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder refreshes = new LongAdder();
+        final LongAdder negativeHits = new LongAdder();
+
+        // refreshAhead = Duration.ZERO -> arka plan yenileme yok
+        public ReadThroughCache(long maximumKeys, Duration ttl, Duration refreshAhead, Duration negativeTtl,
+                Executor refreshExecutor) {
+            if (refreshAhead.compareTo(ttl) >= 0) {
+                throw new IllegalArgumentException("refreshAhead, ttl'den kisa olmali");
+            }
+            // Giris kendi suresini (ttl veya negativeTtl) ayrica kontrol eder; cache uzun olanindan sonra atar
+            this.entries = new BoundedCache.Builder<String, Entry>()
+                    .maximumSize(maximumKeys)
+                    .expireAfterWrite(ttl.compareTo(negativeTtl) >= 0 ? ttl : negativeTtl)
+                    .build();
+            this.ttlNanos = ttl.toNanos();
+            this.refreshAheadNanos = refreshAhead.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+            this.refreshExecutor = refreshExecutor;
+        }
+
+        public String get(String key, IDataSource source) {
+            Entry entry = entries.get(key);
+            long now = System.nanoTime();
+
+            if (entry != null && now - entry.expiresAt < 0) {
+                if (entry.failure != null) {
+                    negativeHits.increment();
+                    throw unavailable(key, entry.failure);
+                }
+                hits.increment();
+                // Suresi yaklasiyor: bir kez arka planda yenile, simdilik mevcut degeri dondur
+                if (now - entry.refreshAt >= 0 && entry.refreshing.compareAndSet(false, true)) {
+                    try {
+                        refreshExecutor.execute(() -> load(key, source));
+                        refreshes.increment();
+                    } catch (RejectedExecutionException e) {
+                        // Executor dolu/kapali: bayrak kalkmazsa bu anahtar bir daha hic yenilenmez
+                        entry.postponeRefresh(negativeTtlNanos);
+                    }
+                }
+                return entry.value;
+            }
+
+            Entry loaded = load(key, source);
+            if (loaded.failure != null) {
+                throw unavailable(key, loaded.failure);
+            }
+            return loaded.value;
+        }
+
+        /**
+         * Anahtar icin devam eden bir yukleme varsa onu bekler,
+         * yoksa yuklemeyi bu thread yapar.
+         */
+        private Entry load(String key, IDataSource source) {
+            CompletableFuture<Entry> mine = new CompletableFuture<>();
+            CompletableFuture<Entry> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                coalesced.increment();
+                return running.join();
+            }
+
+            Entry result = null;
+            try {
+                loads.increment();
+                result = fetch(key, source);
+                Entry current = entries.get(key);
+                if (result.failure != null && current != null && current.failure == null
+                        && System.nanoTime() - current.expiresAt < 0) {
+                    // Arka plan yenilemesi basarisiz: hala gecerli olan degeri koru, sonra tekrar denenir
+                    current.postponeRefresh(negativeTtlNanos);
+                    result = current;
+                } else {
+                    entries.put(key, result);
+                }
+                return result;
+            } finally {
+                // Once entry yazilir, sonra in-flight kaydi kalkar: yeni gelenler taze entry'yi gorur
+                inFlight.remove(key, mine);
+                if (result != null) {
+                    mine.complete(result);
+                } else {
+                    mine.completeExceptionally(new IllegalStateException("Yukleme yarida kaldi: " + key));
+                }
+            }
+        }
+
+        private Entry fetch(String key, IDataSource source) {
+            try {
+                String value = source.fetch(key);
+                long now = System.nanoTime();
+                return new Entry(value, null, now + ttlNanos - refreshAheadNanos, now + ttlNanos);
+            } catch (RuntimeException e) {
+                long expiresAt = System.nanoTime() + negativeTtlNanos;
+                return new Entry(null, e, expiresAt, expiresAt);
+            }
+        }
+
+        private static IllegalStateException unavailable(String key, RuntimeException failure) {
+            return new IllegalStateException("Veri alinamadi: " + key, failure);
+        }
+
+        public void invalidate(String key) {
+            entries.invalidate(key);
+        }
+
+        private static final class Entry {
+            final String value;
+            final RuntimeException failure;
+            volatile long refreshAt;
+            final long expiresAt;
+            final AtomicBoolean refreshing = new AtomicBoolean();
+
+            Entry(String value, RuntimeException failure, long refreshAt, long expiresAt) {
+                this.value = value;
+                this.failure = failure;
+                this.refreshAt = refreshAt;
+                this.expiresAt = expiresAt;
+            }
+
+            /**
+             * Basarisiz/reddedilen yenileme: sicak anahtarin her okumasi kaynagi
+             * tekrar denemesin diye sonraki deneme delayNanos (negatif cache
+             * suresi) sonraya atilir. Sure ondan once dolarsa on planda yuklenir.
+             */
+            void postponeRefresh(long delayNanos) {
+                refreshAt = System.nanoTime() + delayNanos;
+                refreshing.set(false);
+            }
+        }
+    }
+
     // ==========================================
     // 4. GERCEK DUNYA ORNEGI - E-TICARET
     // ==========================================
@@ -320,6 +512,19 @@ public class ConstructorInjection {
         void notifyCustomer(String orderId, String message);
     }
 
+    record StockReservation(String product, int quantity) {
+    }
+
+    // Toplu cagri destekleyen servisler: cagri basina maliyet bir kez odenir
+    interface IBatchInventoryService {
+        void reserveStock(List<StockReservation> reservations);
+    }
+
+    interface IBatchPaymentService {
+        // Sonuclar tutarlarla ayni sirada
+        List<Boolean> processPayments(List<Double> amounts);
+    }
+
     static class WarehouseInventory implements IInventoryService {
         @Override
         public boolean checkStock(String product, int quantity) {
@@ -341,10 +546,37 @@ public class ConstructorInjection {
         }
     }
 
+    static class BatchWarehouseInventory implements IBatchInventoryService {
+        @Override
+        public void reserveStock(List<StockReservation> reservations) {
+            System.out.println("   [Envanter] Toplu stok ayirma: " + reservations.size() + " kalem");
+        }
+    }
+
+    static class BatchCreditCardPayment implements IBatchPaymentService {
+        @Override
+        public List<Boolean> processPayments(List<Double> amounts) {
+            System.out.println("   [Odeme] Toplu kredi karti islemi: " + amounts.size() + " odeme, "
+                    + amounts.stream().mapToDouble(Double::doubleValue).sum() + " TL");
+            return Collections.nCopies(amounts.size(), true);
+        }
+    }
+
     static class CargoShipping implements IShippingService {
+        private final TrackingIdGenerator trackingIds;
+
+        public CargoShipping() {
+            this(new TrackingIdGenerator(0));
+        }
+
+        // Birden fazla surec/makinede her biri kendi nodeId'si ile
+        public CargoShipping(TrackingIdGenerator trackingIds) {
+            this.trackingIds = trackingIds;
+        }
+
         @Override
         public String createShipment(Order order) {
-            String trackingNo = "TRK-" + System.currentTimeMillis() % 100000;
+            String trackingNo = "TRK-" + trackingIds.nextIdString();
             System.out.println("   [Kargo] Gonderi olusturuldu: " + trackingNo);
             return trackingNo;
         }
@@ -400,4 +632,305 @@ public class ConstructorInjection {
                     "Siparisiniz hazirlandi. Takip No: " + trackingNo);
         }
     }
+
+    record OrderResult(String orderId, boolean success, String trackingNo, String message) {
+
+        static OrderResult shipped(Order order, String trackingNo) {
+            return new OrderResult(order.id(), true, trackingNo, "Siparisiniz hazirlandi. Takip No: " + trackingNo);
+        }
+
+        static OrderResult failed(Order order, String message) {
+            return new OrderResult(order.id(), false, null, message);
+        }
+    }
+
+    /**
+     * OrderProcessingService'in asenkron versiyonu. Ayni bagimliliklar,
+     * ayni adimlar; fakat:
+     * - Adimlar sirali versiyonla ayni sirada: stok ayrilmadan odeme alinmaz
+     *   (paralel calissalar, ayirma hata verdiginde odeme iade edilmeden kalirdi)
+     * - Siparisler birbirini beklemez: farkli siparislerin adimlari ayni anda ilerler
+     * - Bildirim kritik yolda degil: siparisin future'i kargo olusunca tamamlanir
+     * - En fazla maxInFlight siparis ayni anda islenir; sinira gelince
+     *   processOrderAsync cagiran thread'i bekletir (backpressure)
+     *
+     * Adimlar bloklayan I/O oldugu icin ayri bir Executor'da calisir.
+     */
+    static class AsyncOrderProcessingService {
+        private final IInventoryService inventoryService;
+        private final IPaymentService paymentService;
+        private final IShippingService shippingService;
+        private final INotificationService notificationService;
+        private final Executor executor;
+        private final Semaphore inFlight;
+
+        public AsyncOrderProcessingService(
+                IInventoryService inventoryService,
+                IPaymentService paymentService,
+                IShippingService shippingService,
+                INotificationService notificationService,
+                Executor executor,
+                int maxInFlight) {
+            this.inventoryService = inventoryService;
+            this.paymentService = paymentService;
+            this.shippingService = shippingService;
+            this.notificationService = notificationService;
+            this.executor = executor;
+            this.inFlight = new Semaphore(maxInFlight);
+        }
+
+        public CompletableFuture<OrderResult> processOrderAsync(Order order) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableFuture.failedFuture(e);
+            }
+
+            CompletableFuture<OrderResult> result;
+            try {
+                result = CompletableFuture
+                        .supplyAsync(() -> inventoryService.checkStock(order.product(), order.quantity()), executor)
+                        .thenCompose(inStock -> inStock
+                                ? reserveAndCharge(order)
+                                : CompletableFuture.completedFuture(OrderResult.failed(order, "Stokta yok!")));
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                throw e;
+            }
+
+            // Bildirim ayri calisir; izin bildirim de bitince birakilir
+            result.thenAcceptAsync(r -> notificationService.notifyCustomer(order.id(), r.message()), executor)
+                    .whenComplete((ignored, e) -> inFlight.release());
+            return result;
+        }
+
+        /**
+         * Tum siparisleri sirayla gonderir (sinirdayken bekleyerek) ve
+         * hepsi bitince sonuclari ayni sirada dondurur.
+         */
+        public CompletableFuture<List<OrderResult>> processAll(Iterable<Order> orders) {
+            List<CompletableFuture<OrderResult>> futures = new ArrayList<>();
+            for (Order order : orders) {
+                futures.add(processOrderAsync(order));
+            }
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+        }
+
+        // Odeme sadece stok ayrildiktan sonra alinir: ayirma hata verirse musteriden para cekilmez
+        private CompletableFuture<OrderResult> reserveAndCharge(Order order) {
+            return CompletableFuture
+                    .runAsync(() -> inventoryService.reserveStock(order.product(), order.quantity()), executor)
+                    .thenApplyAsync(ignored -> paymentService.processPayment(order.price()), executor)
+                    .thenApplyAsync(paid -> paid
+                            ? OrderResult.shipped(order, shippingService.createShipment(order))
+                            : OrderResult.failed(order, "Odeme basarisiz!"), executor);
+        }
+    }
+
+    /**
+     * Tekil IPaymentService arayuzunu koruyarak cagrilari MicroBatcher ile
+     * toplar ve IBatchPaymentService'e toplu gonderir. Eszamanli cok sayida
+     * siparis varken cagri basina sabit maliyet batch'e bolunur.
+     */
+    static class BatchingPaymentService implements IPaymentService, AutoCloseable {
+        private final MicroBatcher<Double, Boolean> batcher;
+
+        public BatchingPaymentService(IBatchPaymentService batchService, int maxBatchSize, Duration maxDelay,
+                Executor executor) {
+            this.batcher = new MicroBatcher<>("payment", maxBatchSize, maxDelay,
+                    batchService::processPayments, executor);
+        }
+
+        public CompletableFuture<Boolean> processPaymentAsync(double amount) {
+            return batcher.submit(amount);
+        }
+
+        // Tekil arayuz: cagiran thread kendi sonucunu bekler
+        @Override
+        public boolean processPayment(double amount) {
+            return processPaymentAsync(amount).join();
+        }
+
+        @Override
+        public void close() {
+            batcher.close();
+        }
+    }
+
+    static class BatchingInventoryService implements IInventoryService, AutoCloseable {
+        private final IInventoryService delegate; // Stok kontrolu tekil kalir
+        private final MicroBatcher<StockReservation, Void> batcher;
+
+        public BatchingInventoryService(IInventoryService delegate, IBatchInventoryService batchService,
+                int maxBatchSize, Duration maxDelay, Executor executor) {
+            this.delegate = delegate;
+            this.batcher = new MicroBatcher<>("inventory", maxBatchSize, maxDelay, reservations -> {
+                batchService.reserveStock(reservations);
+                return Collections.nCopies(reservations.size(), null);
+            }, executor);
+        }
+
+        @Override
+        public boolean checkStock(String product, int quantity) {
+            return delegate.checkStock(product, quantity);
+        }
+
+        @Override
+        public void reserveStock(String product, int quantity) {
+            batcher.submit(new StockReservation(product, quantity)).join();
+        }
+
+        @Override
+        public void close() {
+            batcher.close();
+        }
+    }
+
+    // ==========================================
+    // 5. READ-THROUGH CACHE (SINGLE-FLIGHT)
+    // ==========================================
+
+    /**
+     * Soguk bir anahtari ayni anda isteyen 8 thread: cache tek fetch yapar,
+     * digerleri onu bekler. Hata veren anahtar negatif cache'lenir.
+     */
+    static void readThroughCache() {
+        System.out.println("\n5. READ-THROUGH CACHE (SINGLE-FLIGHT)");
+        System.out.println("-".repeat(40));
+
+        ReadThroughCache cache = new ReadThroughCache(10_000, Duration.ofSeconds(30), Duration.ofSeconds(5),
+                Duration.ofSeconds(2), ForkJoinPool.commonPool());
+        DataService service = DataService.readThrough(new SlowDatabaseSource(100), cache);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> service.getData("populer"));
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("   8 istek -> fetch: " + cache.loads.sum()
+                + ", bekleyip ayni sonucu alan: " + cache.coalesced.sum());
+
+        // Negatif cache: ikinci istek kaynaga gitmez
+        for (int i = 0; i < 2; i++) {
+            try {
+                service.getData("hatali");
+            } catch (IllegalStateException e) {
+                System.out.println("   [HATA] " + e.getMessage() + " (" + e.getCause().getMessage() + ")");
+            }
+        }
+        System.out.println("   Negatif cache hit: " + cache.negativeHits.sum());
+    }
+
+    // Yavas (ornegin uzak) veri kaynagi; "hatali" ile baslayan anahtarlarda hata verir
+    static class SlowDatabaseSource implements IDataSource {
+        private final long latencyMillis;
+        final LongAdder fetches = new LongAdder();
+
+        SlowDatabaseSource(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public String fetch(String key) {
+            fetches.increment();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (key.startsWith("hatali")) {
+                System.out.println("   [DB] Baglanti hatasi: " + key);
+                throw new IllegalStateException("DB zaman asimi");
+            }
+            System.out.println("   [DB] Veritabanindan okundu: " + key);
+            return "data_" + key;
+        }
+    }
+
+    // ==========================================
+    // 6. ASENKRON SIPARIS PIPELINE
+    // ==========================================
+
+    /**
+     * Ayni servislerle 3 siparis asenkron islenir; siparisler birbirini
+     * beklemez, bildirim siparis tamamlandiktan sonra arka planda calisir.
+     */
+    static void asyncOrderPipeline() {
+        System.out.println("\n6. ASENKRON SIPARIS PIPELINE");
+        System.out.println("-".repeat(40));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AsyncOrderProcessingService service = new AsyncOrderProcessingService(
+                new WarehouseInventory(), new CreditCardPayment(), new CargoShipping(), new EmailNotification(),
+                executor, 2);
+
+        List<Order> orders = List.of(
+                new Order("ORD-101", "Klavye", 1, 750.0),
+                new Order("ORD-102", "Mouse", 2, 300.0),
+                new Order("ORD-103", "Monitor", 1, 4500.0));
+        List<OrderResult> results = service.processAll(orders).join();
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println();
+        for (OrderResult result : results) {
+            System.out.println("   " + result.orderId() + " -> " + (result.success() ? "OK " + result.trackingNo() : "HATA " + result.message()));
+        }
+    }
+
+    // ==========================================
+    // 7. MICRO-BATCHING
+    // ==========================================
+
+    /**
+     * Ayni anda gelen 6 siparisin odeme ve stok ayirma cagrilari 10 ms'lik
+     * pencerede toplanir; servis tarafina tek toplu cagri olarak gider.
+     * OrderProcessingService degismez, sadece verilen implementasyon degisir.
+     */
+    static void microBatching() {
+        System.out.println("\n7. MICRO-BATCHING");
+        System.out.println("-".repeat(40));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Duration window = Duration.ofMillis(10);
+        try (BatchingPaymentService payment = new BatchingPaymentService(
+                new BatchCreditCardPayment(), 100, window, executor);
+                BatchingInventoryService inventory = new BatchingInventoryService(
+                        new SilentInventory(), new BatchWarehouseInventory(), 100, window, executor)) {
+            List<CompletableFuture<Boolean>> paid = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                String product = "Urun-" + i;
+                paid.add(CompletableFuture.supplyAsync(() -> {
+                    inventory.reserveStock(product, 1);
+                    return payment.processPayment(100.0);
+                }, executor));
+            }
+            long succeeded = paid.stream().filter(CompletableFuture::join).count();
+            System.out.println("   Basarili odeme: " + succeeded + "/" + paid.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static class SilentInventory implements IInventoryService {
+        @Override
+        public boolean checkStock(String product, int quantity) {
+            return true;
+        }
+
+        @Override
+        public void reserveStock(String product, int quantity) {
+        }
+    }
 }
@@ -0,0 +1,325 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * CONSTRUCTOR INJECTION OLCUMLERI
+ *
+ * Read-through DataService ve asenkron siparis pipeline'i.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.ConstructorInjectionBenchmark"
+ */
+public class ConstructorInjectionBenchmark {
+
+    public static void main(String[] args) {
+        readThroughCacheLoad();
+        asyncOrderPipeline();
+    }
+
+    // ==========================================
+    // 9. READ-THROUGH CACHE YUK TESTI
+    // ==========================================
+
+    static final long SOURCE_LATENCY_MILLIS = 50;
+
+    /**
+     * ConstructorInjection.DataService, yavas bir kaynak (50 ms) ile:
+     * a) Soguk anahtara 64 eszamanli istek (stampede)
+     * b) TTL'i kisa 4 populer anahtar, 16 thread surekli okur
+     * c) Surekli hata veren anahtar, negatif cache acik/kapali
+     */
+    static void readThroughCacheLoad() {
+        System.out.println("\n9. READ-THROUGH CACHE YUK TESTI");
+        System.out.println("-".repeat(40));
+
+        ExecutorService refresher = Executors.newFixedThreadPool(4, r -> {
+            Thread thread = new Thread(r, "refresh-ahead");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // a) Stampede
+        System.out.printf("   a) Soguk anahtar, 64 eszamanli istek%n");
+        System.out.printf("   %-28s %8s %10s%n", "Mod", "Fetch", "Sure (ms)");
+        SlowDataSource naiveSource = new SlowDataSource();
+        ConstructorInjection.DataService naive = new ConstructorInjection.DataService(naiveSource, new MapCache());
+        long naiveMillis = stampede(naive);
+        System.out.printf("   %-28s %8d %10d%n", "kontrol-getir-yaz", naiveSource.fetches.sum(), naiveMillis);
+
+        SlowDataSource coalescedSource = new SlowDataSource();
+        ConstructorInjection.DataService coalesced = ConstructorInjection.DataService.readThrough(coalescedSource,
+                new ConstructorInjection.ReadThroughCache(10_000, Duration.ofSeconds(10), Duration.ZERO,
+                        Duration.ZERO, refresher));
+        long coalescedMillis = stampede(coalesced);
+        System.out.printf("   %-28s %8d %10d%n", "read-through (single-flight)", coalescedSource.fetches.sum(),
+                coalescedMillis);
+
+        // b) Kisa TTL altinda surekli okuma
+        System.out.printf("%n   b) 4 anahtar, TTL 200 ms, 16 thread x 1.5 s (ilk soguk istekler dahil)%n");
+        System.out.printf("   %-28s %8s %12s %10s%n", "Mod", "Fetch", "Bekleyen(>10ms)", "Max (ms)");
+        Duration ttl = Duration.ofMillis(200);
+        SlowDataSource[] sources = { new SlowDataSource(), new SlowDataSource(), new SlowDataSource() };
+        ConstructorInjection.DataService[] services = {
+                new ConstructorInjection.DataService(sources[0], new ExpiringMapCache(ttl.toNanos())),
+                ConstructorInjection.DataService.readThrough(sources[1],
+                        new ConstructorInjection.ReadThroughCache(10_000, ttl, Duration.ZERO, Duration.ZERO, refresher)),
+                ConstructorInjection.DataService.readThrough(sources[2],
+                        new ConstructorInjection.ReadThroughCache(10_000, ttl, Duration.ofMillis(100), Duration.ZERO,
+                                refresher)) };
+        String[] names = { "kontrol-getir-yaz", "single-flight", "single-flight + refresh-ahead" };
+        for (int i = 0; i < services.length; i++) {
+            long[] result = sustainedLoad(services[i], 16, 1_500);
+            System.out.printf("   %-28s %8d %12d %10d%n", names[i], sources[i].fetches.sum(), result[0], result[1]);
+        }
+
+        // c) Hata veren anahtar
+        System.out.printf("%n   c) Hata veren anahtar, 16 thread x 1 s%n");
+        System.out.printf("   %-28s %8s%n", "Mod", "Fetch");
+        for (Duration negativeTtl : new Duration[] { Duration.ZERO, Duration.ofMillis(500) }) {
+            SlowDataSource failing = new SlowDataSource();
+            ConstructorInjection.DataService service = ConstructorInjection.DataService.readThrough(failing,
+                    new ConstructorInjection.ReadThroughCache(10_000, Duration.ofSeconds(10), Duration.ZERO, negativeTtl,
+                            refresher));
+            failingLoad(service, 16, 1_000);
+            System.out.printf("   %-28s %8d%n", "negatif TTL " + negativeTtl.toMillis() + " ms",
+                    failing.fetches.sum());
+        }
+
+        refresher.shutdownNow();
+    }
+
+    // Tum thread'ler ayni anda ayni soguk anahtari ister, toplam sure (ms)
+    private static long stampede(ConstructorInjection.DataService service) {
+        int threads = 64;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    DIBenchmarks.blackhole = service.getData("populer");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        awaitShutdown(executor);
+        return (System.nanoTime() - begin) / 1_000_000;
+    }
+
+    // {10 ms'den uzun bekleyen istek sayisi, en uzun bekleme (ms)}
+    private static long[] sustainedLoad(ConstructorInjection.DataService service, int threads, long millis) {
+        LongAdder slow = new LongAdder();
+        LongAccumulator max = new LongAccumulator(Math::max, 0);
+        long end = System.nanoTime() + millis * 1_000_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            executor.execute(() -> {
+                int i = seed;
+                while (System.nanoTime() < end) {
+                    long begin = System.nanoTime();
+                    DIBenchmarks.blackhole = service.getData("urun-" + (i++ & 3));
+                    long elapsed = System.nanoTime() - begin;
+                    if (elapsed > 10_000_000) {
+                        slow.increment();
+                    }
+                    max.accumulate(elapsed);
+                    LockSupport.parkNanos(200_000); // istekler arasi bosluk
+                }
+            });
+        }
+        awaitShutdown(executor);
+        return new long[] { slow.sum(), max.get() / 1_000_000 };
+    }
+
+    private static void failingLoad(ConstructorInjection.DataService service, int threads, long millis) {
+        long end = System.nanoTime() + millis * 1_000_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < end) {
+                    try {
+                        service.getData("hatali");
+                    } catch (IllegalStateException e) {
+                        DIBenchmarks.blackhole = e;
+                    }
+                    LockSupport.parkNanos(200_000);
+                }
+            });
+        }
+        awaitShutdown(executor);
+    }
+
+    private static void awaitShutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Sessiz, yavas IDataSource; "hatali" ile baslayan anahtarlarda hata verir
+    static class SlowDataSource implements ConstructorInjection.IDataSource {
+        final LongAdder fetches = new LongAdder();
+
+        @Override
+        public String fetch(String key) {
+            fetches.increment();
+            LockSupport.parkNanos(SOURCE_LATENCY_MILLIS * 1_000_000);
+            if (key.startsWith("hatali")) {
+                throw new IllegalStateException("Kaynak hatasi");
+            }
+            return "data_" + key;
+        }
+    }
+
+    // Thread-safe ama stampede korumasi olmayan ICache
+    static class MapCache implements ConstructorInjection.ICache {
+        private final Map<String, String> store = new ConcurrentHashMap<>();
+
+        @Override
+        public String get(String key) {
+            return store.get(key);
+        }
+
+        @Override
+        public void put(String key, String value) {
+            store.put(key, value);
+        }
+    }
+
+    // Sureli ICache: suresi dolan anahtar tum okuyanlar icin ayni anda miss olur
+    static class ExpiringMapCache implements ConstructorInjection.ICache {
+        private final Map<String, Object[]> store = new ConcurrentHashMap<>();
+        private final long ttlNanos;
+
+        ExpiringMapCache(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public String get(String key) {
+            Object[] entry = store.get(key);
+            if (entry == null || System.nanoTime() - (long) entry[1] >= 0) {
+                return null;
+            }
+            return (String) entry[0];
+        }
+
+        @Override
+        public void put(String key, String value) {
+            store.put(key, new Object[] { value, System.nanoTime() + ttlNanos });
+        }
+    }
+
+    // ==========================================
+    // 12. ASENKRON SIPARIS PIPELINE
+    // ==========================================
+
+    static final int PIPELINE_ORDERS = 2_000;
+
+    /**
+     * Gecikmeli servis taklitleri (stok 2, ayirma 2, odeme 5, kargo 3,
+     * bildirim 2 ms) ile siparis/saniye:
+     * - sirali: processOrder'daki adimlar tek thread'de (14 ms/siparis)
+     * - asenkron: AsyncOrderProcessingService, farkli maxInFlight sinirlari
+     */
+    static void asyncOrderPipeline() {
+        System.out.println("\n12. ASENKRON SIPARIS PIPELINE");
+        System.out.println("-".repeat(40));
+
+        SimulatedBackend backend = new SimulatedBackend();
+        List<ConstructorInjection.Order> orders = new ArrayList<>();
+        for (int i = 0; i < PIPELINE_ORDERS; i++) {
+            orders.add(new ConstructorInjection.Order("ORD-" + i, "Urun-" + (i % 50), 1, 100.0));
+        }
+
+        System.out.printf("   %-22s %12s %14s%n", "Mod", "Siparis", "Siparis/s");
+        int sequentialOrders = 100;
+        long start = System.nanoTime();
+        for (int i = 0; i < sequentialOrders; i++) {
+            ConstructorInjection.Order order = orders.get(i);
+            if (backend.checkStock(order.product(), order.quantity())) {
+                backend.reserveStock(order.product(), order.quantity());
+                if (backend.processPayment(order.price())) {
+                    backend.notifyCustomer(order.id(), backend.createShipment(order));
+                }
+            }
+        }
+        System.out.printf("   %-22s %12d %,14.0f%n", "sirali", sequentialOrders,
+                sequentialOrders / ((System.nanoTime() - start) / 1e9));
+
+        ExecutorService executor = Executors.newFixedThreadPool(512, r -> {
+            Thread thread = new Thread(r, "order-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int maxInFlight : new int[] { 1, 8, 64, 128 }) {
+            ConstructorInjection.AsyncOrderProcessingService service = new ConstructorInjection.AsyncOrderProcessingService(
+                    backend, backend, backend, backend, executor, maxInFlight);
+            start = System.nanoTime();
+            List<ConstructorInjection.OrderResult> results = service.processAll(orders).join();
+            double perSecond = results.size() / ((System.nanoTime() - start) / 1e9);
+            System.out.printf("   %-22s %12d %,14.0f%n", "asenkron, inFlight " + maxInFlight, results.size(), perSecond);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Tum siparis servislerinin sessiz, gecikmeli taklidi.
+     */
+    static class SimulatedBackend implements ConstructorInjection.IInventoryService,
+            ConstructorInjection.IPaymentService, ConstructorInjection.IShippingService,
+            ConstructorInjection.INotificationService {
+        private final AtomicLong trackingSequence = new AtomicLong();
+
+        @Override
+        public boolean checkStock(String product, int quantity) {
+            pause(2);
+            return true;
+        }
+
+        @Override
+        public void reserveStock(String product, int quantity) {
+            pause(2);
+        }
+
+        @Override
+        public boolean processPayment(double amount) {
+            pause(5);
+            return true;
+        }
+
+        @Override
+        public String createShipment(ConstructorInjection.Order order) {
+            pause(3);
+            return "TRK-" + trackingSequence.incrementAndGet();
+        }
+
+        @Override
+        public void notifyCustomer(String orderId, String message) {
+            pause(2);
+        }
+
+        private static void pause(long millis) {
+            LockSupport.parkNanos(millis * 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.fundamentals.di;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DI PERFORMANS OLCUMLERI
+ *
+ * Container ve yardimci yapilarin basit, framework'suz olcumleri.
+ * JMH kadar hassas degildir (warm-up + sabit sure), ancak
+ * yaklasimlar arasindaki buyukluk farkini gostermeye yeter.
+ *
+ * Olcumler olctukleri sinifin yaninda, konu basina bir sinifta durur
+ * (DIContainerBenchmark, DurableStoreBenchmark, ...); her birinin kendi
+ * main'i vardir. Bu sinif hepsini sirayla calistirir ve ortak olcum
+ * yardimcilarini tasir.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.DIBenchmarks"
+ */
+public class DIBenchmarks {
+
+    static final long WARMUP_MILLIS = 300; // En az; bkz. warmUp
+    static final long MEASURE_MILLIS = 500;
+
+    public static void main(String[] args) {
+        System.out.println("=".repeat(60));
+        System.out.println("DI PERFORMANS OLCUMLERI");
+        System.out.println("=".repeat(60));
+
+        DIContainerBenchmark.concurrentResolveThroughput();
+        DIContainerBenchmark.reflectiveVsCompiledConstruction();
+        FieldInjectionBenchmark.reflectiveVsGeneratedFieldInjection();
+        DIContainerBenchmark.lazyVsEagerGraph();
+        QualifierAnnotationBenchmark.qualifierLookupAllocation();
+        ServiceLocatorBenchmark.serviceLocatorContention();
+        DIContainerBenchmark.metricsOverhead();
+        DIContainerBenchmark.coldStart();
+        ConstructorInjectionBenchmark.readThroughCacheLoad();
+        BoundedCacheBenchmark.boundedCacheZipf();
+        OffHeapStoreBenchmark.offHeapGcPauses();
+        ConstructorInjectionBenchmark.asyncOrderPipeline();
+        MicroBatcherBenchmark.microBatching();
+        TrackingIdGeneratorBenchmark.trackingIds();
+        IndexedOrderRepositoryBenchmark.indexedOrders();
+        DurableStoreBenchmark.writeAheadLog();
+        AsyncLogWriterBenchmark.asyncLogging();
+        NotificationDispatcherBenchmark.notificationFanOut();
+        InterfaceInjectionBenchmark.componentLifecycle();
+        PluginRegistryBenchmark.pluginDispatch();
+        IdempotencyStoreBenchmark.idempotency();
+        DIWithoutFrameworkBenchmark.serviceFactory();
+    }
+
+    // ==========================================
+    // OLCUM YARDIMCILARI
+    // ==========================================
+
+    // JIT'in sonucu kullanilmayan islemleri silmesini engeller
+    static volatile Object blackhole;
+
+    /**
+     * Mevcut thread'in islem basina ayirdigi ortalama byte (JMH -prof gc benzeri).
+     * Once isinir, sonra ALLOCATION_ITERATIONS kez olcer.
+     */
+    static double allocatedBytesPerOp(Runnable operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < ALLOCATION_ITERATIONS; i++) {
+            operation.run();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ALLOCATION_ITERATIONS; i++) {
+            operation.run();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        return (double) (after - before) / ALLOCATION_ITERATIONS;
+    }
+
+    static final int ALLOCATION_ITERATIONS = 1_000_000;
+
+    /**
+     * Verilen islemi belirtilen thread sayisi ile calistirir, saniyedeki
+     * toplam islem sayisini dondurur.
+     */
+    static double throughput(int threads, Runnable operation) {
+        return throughput(threads, MEASURE_MILLIS, operation);
+    }
+
+    /**
+     * Her thread isinir (bkz. warmUp), sonra measureMillis boyunca kendi
+     * saatiyle olcer ve kendi hizini (islem / kendi gecen suresi) ekler.
+     * Ortak, mutlak bir pencere kullanilmaz: gec baslayan veya GC'de bekleyen
+     * thread pencereyi kacirip sifir saymaz. Olcumunu bitiren thread, diger
+     * thread'ler bitene kadar islemi saymadan calistirmaya devam eder; boylece
+     * cekirdek sayisindan fazla thread'de erken biten thread digerlerine bos
+     * CPU birakip onlarin hizini sisirmez.
+     * Saat her islemde degil, islem grubu basina okunur (bkz. runFor).
+     */
+    static double throughput(int threads, long measureMillis, Runnable operation) {
+        DoubleAdder opsPerSecond = new DoubleAdder();
+        CountDownLatch warmedUp = new CountDownLatch(threads);
+        CountDownLatch measured = new CountDownLatch(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    int batch = warmUp(operation);
+                    warmedUp.countDown();
+                    runUntil(operation, warmedUp, batch);
+                    long[] result = runFor(operation, measureMillis, batch);
+                    opsPerSecond.add(result[0] * 1e9 / result[1]);
+                } finally {
+                    measured.countDown();
+                }
+                try {
+                    runUntil(operation, measured, 1);
+                } finally {
+                    done.countDown();
+                }
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        // Cagiran islemin kaynagini (orn. depoyu) kapatabilir: tum thread'ler durmus olmali
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return opsPerSecond.sum();
+    }
+
+    /**
+     * 100 ms'lik dilimler halinde calistirir; en az WARMUP_MILLIS gectikten
+     * sonra ardisik iki dilimin hizi %5 icindeyse (JIT derlemesi bitmis)
+     * durur, en fazla MAX_WARMUP_MILLIS. Tek CPU'da C2 derlemesi islemle ayni
+     * cekirdegi paylastigindan sabit kisa bir isinma yetmeyebilir.
+     * Olcumde kullanilacak grup boyunu dondurur.
+     */
+    private static int warmUp(Runnable operation) {
+        long[] slice = runFor(operation, WARMUP_SLICE_MILLIS, 1);
+        long elapsed = slice[1];
+        double previous = (double) slice[0] / slice[1];
+        while (elapsed < TimeUnit.MILLISECONDS.toNanos(MAX_WARMUP_MILLIS)) {
+            slice = runFor(operation, WARMUP_SLICE_MILLIS, (int) slice[2]);
+            elapsed += slice[1];
+            double current = (double) slice[0] / slice[1];
+            if (elapsed >= TimeUnit.MILLISECONDS.toNanos(WARMUP_MILLIS)
+                    && Math.abs(current - previous) <= previous * 0.05) {
+                break;
+            }
+            previous = current;
+        }
+        return (int) slice[2];
+    }
+
+    static final long WARMUP_SLICE_MILLIS = 100;
+    static final long MAX_WARMUP_MILLIS = 2_000;
+
+    // Diger thread'ler latch'e ulasana kadar islemi sayilmadan calistirir
+    private static void runUntil(Runnable operation, CountDownLatch latch, int batch) {
+        while (latch.getCount() > 0) {
+            for (int i = 0; i < batch; i++) {
+                operation.run();
+            }
+        }
+    }
+
+    /**
+     * Islemi en az millis boyunca (en az bir kez) calistirir;
+     * {islem sayisi, gecen ns, son grup boyu}. Saat okumasi (sanal
+     * makinede 60-100 ns) hizli islemleri bastirmasin diye grup boyu, iki
+     * okuma arasi ~10 us olana kadar ikiye katlanir; yavas islemlerde 1 kalir.
+     */
+    private static long[] runFor(Runnable operation, long millis, int batch) {
+        long duration = TimeUnit.MILLISECONDS.toNanos(millis);
+        long start = System.nanoTime();
+        long last = start;
+        long ops = 0;
+        long now;
+        do {
+            for (int i = 0; i < batch; i++) {
+                operation.run();
+            }
+            ops += batch;
+            now = System.nanoTime();
+            if (now - last < 10_000 && batch < MAX_BATCH) {
+                batch <<= 1;
+            }
+            last = now;
+        } while (now - start < duration);
+        return new long[] { ops, now - start, batch };
+    }
+
+    static final int MAX_BATCH = 1 << 16;
+
+    // Buyuk bir yuklemeden sonra: tam GC, sonra GC thread'lerinin isini bitirmesi icin kisa bekleme
+    static void settleHeap() {
+        System.gc();
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Ayni classpath ile yeni bir JVM'de mainClass'i calistirir, ciktisini dondurur
+    static String runInNewJvm(List<String> jvmOptions, Class<?> mainClass, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(List.of(args));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        try {
+            if (process.waitFor() != 0) {
+                throw new IOException("Cocuk surec hata verdi: " + output);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Beklerken kesildi", e);
+        }
+        return output;
+    }
+}
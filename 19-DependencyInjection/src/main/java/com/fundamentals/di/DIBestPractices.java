@@ -149,18 +149,7 @@ public class DIBestPractices {
         }
     }
 
-    static class InMemoryCache implements ICache {
-        private final Map<String, String> store = new HashMap<>();
-
-        @Override
-        public void put(String key, String value) {
-            store.put(key, value);
-        }
-
-        @Override
-        public String get(String key) {
-            return store.get(key);
-        }
+    static class InMemoryCache extends BoundedStringCache implements ICache {
     }
 
     static class NotificationService {
@@ -214,10 +203,37 @@ public class DIBestPractices {
         IPaymentGateway paypal = new PayPalPayment();
         PaymentProcessor processor2 = new PaymentProcessor(paypal);
         processor2.process(200.0);
+
+        // Interface sayesinde dekorator araya girer: tekrar edilen istek tek odeme
+        IdempotencyStore<Void> store = new IdempotencyStore.Builder<Void>().maximumKeys(10_000).build();
+        PaymentProcessor processor3 = new PaymentProcessor(IPaymentGateway.idempotent(stripe, store));
+        processor3.process("odeme-42", 300.0);
+        processor3.process("odeme-42", 300.0);
     }
 
     interface IPaymentGateway {
         void charge(double amount);
+
+        default void charge(String idempotencyKey, double amount) {
+            charge(amount);
+        }
+
+        // Dekorator: PaymentProcessor degismeden tekrarlara karsi korunur (bkz. IdempotentGateway)
+        static IPaymentGateway idempotent(IPaymentGateway delegate, IdempotencyStore<Void> store) {
+            IdempotentGateway<IPaymentGateway> guard =
+                    new IdempotentGateway<>(delegate, IPaymentGateway::charge, store);
+            return new IPaymentGateway() {
+                @Override
+                public void charge(double amount) {
+                    guard.pay(amount);
+                }
+
+                @Override
+                public void charge(String idempotencyKey, double amount) {
+                    guard.pay(idempotencyKey, amount);
+                }
+            };
+        }
     }
 
     static class StripePayment implements IPaymentGateway {
@@ -244,6 +260,10 @@ public class DIBestPractices {
         public void process(double amount) {
             gateway.charge(amount);
         }
+
+        public void process(String idempotencyKey, double amount) {
+            gateway.charge(idempotencyKey, amount);
+        }
     }
 
     // ==========================================
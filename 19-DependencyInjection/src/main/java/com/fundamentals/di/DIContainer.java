@@ -1,8 +1,25 @@
 package com.fundamentals.di;
 
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * SIMPLE DI CONTAINER IMPLEMENTASYONU
@@ -28,6 +45,14 @@ public class DIContainer {
         singletonVsTransient();
         automaticDependencyResolution();
         realWorldExample();
+        concurrentResolution();
+        parallelEagerInitialization();
+        scopedLifetime();
+        lazyDependencies();
+        resolutionMetrics();
+        wiringSnapshot();
+        indexedOrderRepository();
+        durableDatabase();
     }
 
     // ==========================================
@@ -158,6 +183,340 @@ public class DIContainer {
         return container;
     }
 
+    // ==========================================
+    // 5. ESZAMANLI COZUMLEME (THREAD-SAFE)
+    // ==========================================
+
+    /**
+     * Bircok request thread'i ayni anda resolve cagirdiginda singleton
+     * yine de sadece bir kez olusturulmali.
+     */
+    static void concurrentResolution() {
+        System.out.println("\n5. ESZAMANLI COZUMLEME (THREAD-SAFE)");
+        System.out.println("-".repeat(40));
+
+        AtomicInteger created = new AtomicInteger();
+        AdvancedContainer container = new AdvancedContainer();
+        container.registerSingleton(IDatabase.class, () -> {
+            created.incrementAndGet();
+            return new InMemoryDatabase();
+        });
+
+        Set<IDatabase> seen = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[16];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> seen.add(container.resolve(IDatabase.class)));
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        System.out.println("   16 thread resolve etti");
+        System.out.println("   Olusturulan instance sayisi: " + created.get());
+        System.out.println("   Farkli instance sayisi: " + seen.size());
+    }
+
+    // ==========================================
+    // 6. PARALEL EAGER SINGLETON BASLATMA
+    // ==========================================
+
+    /**
+     * initializeAll(): Bagimlilik grafigine gore singleton'lari katman katman,
+     * ayni katmandakileri paralel olusturur. Yavas baslayan bilesenler
+     * (DB havuzu, cache) toplam degil, en yavas olan kadar sure alir.
+     */
+    static void parallelEagerInitialization() {
+        System.out.println("\n6. PARALEL EAGER SINGLETON BASLATMA");
+        System.out.println("-".repeat(40));
+
+        AdvancedContainer container = new AdvancedContainer();
+        container.registerSingleton(ILogger.class, ConsoleLogger.class);
+        container.registerSingleton(ConnectionPool.class, ConnectionPool.class);
+        container.registerSingleton(ProductCache.class, ProductCache.class);
+        container.registerSingleton(CatalogService.class, CatalogService.class);
+
+        InitializationReport report = container.initializeAll();
+        for (NodeTiming node : report.nodes()) {
+            System.out.printf("   Katman %d  %-16s %5d ms  (%s)%n", node.layer(),
+                    node.type().getSimpleName(), node.nanos() / 1_000_000, node.thread());
+        }
+        System.out.println("   Toplam: " + report.totalNanos() / 1_000_000 + " ms"
+                + " (sirali olsaydi ~" + (ConnectionPool.WARMUP_MILLIS + ProductCache.WARMUP_MILLIS) + " ms)");
+
+        // Dongu varsa hicbir singleton olusturulmadan hata verilir
+        AdvancedContainer cyclic = new AdvancedContainer();
+        cyclic.registerSingleton(CycleA.class, CycleA.class);
+        cyclic.registerSingleton(CycleB.class, CycleB.class);
+        try {
+            cyclic.initializeAll();
+        } catch (IllegalStateException e) {
+            System.out.println("\n   [HATA] " + e.getMessage());
+        }
+    }
+
+    // ==========================================
+    // 7. SCOPED LIFETIME (REQUEST SCOPE)
+    // ==========================================
+
+    /**
+     * Scoped: Bir is birimi (orn: HTTP request) boyunca tek instance.
+     * Scope kapaninca AutoCloseable instance'lar dispose edilir.
+     */
+    static void scopedLifetime() {
+        System.out.println("\n7. SCOPED LIFETIME (REQUEST SCOPE)");
+        System.out.println("-".repeat(40));
+
+        SimpleContainer container = new SimpleContainer();
+        container.registerSingleton(ILogger.class, ConsoleLogger::new);
+        container.registerScoped(UnitOfWork.class, UnitOfWork::new);
+
+        try (Scope request1 = container.openScope()) {
+            UnitOfWork a = request1.resolve(UnitOfWork.class);
+            UnitOfWork b = request1.resolve(UnitOfWork.class);
+            System.out.println("   Ayni scope icinde a == b: " + (a == b));
+
+            try (Scope request2 = container.openScope()) {
+                UnitOfWork c = request2.resolve(UnitOfWork.class);
+                System.out.println("   Farkli scope'ta a == c: " + (a == c));
+            }
+        }
+
+        // Cok sayida eszamanli scope: her biri kendi map'ini kullanir
+        int requestCount = 10_000;
+        int disposedBefore = UnitOfWork.DISPOSED.get();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        long start = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executor.execute(() -> {
+                try (Scope scope = container.openScope()) {
+                    scope.resolve(UnitOfWork.class).track("istek");
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        System.out.println("\n   " + requestCount + " scope, 64 thread: "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.out.println("   Dispose edilen UnitOfWork: " + (UnitOfWork.DISPOSED.get() - disposedBefore));
+    }
+
+    // ==========================================
+    // 8. LAZY BAGIMLILIKLAR (PROXY)
+    // ==========================================
+
+    /**
+     * Bazi bagimliliklar her cagri yolunda kullanilmaz. registerLazy ile
+     * bunlara proxy inject edilir; gercek nesne ilk kullanimda olusturulur.
+     */
+    static void lazyDependencies() {
+        System.out.println("\n8. LAZY BAGIMLILIKLAR (PROXY)");
+        System.out.println("-".repeat(40));
+
+        AdvancedContainer container = new AdvancedContainer();
+        container.registerSingleton(ILogger.class, ConsoleLogger::new);
+        container.registerSingleton(IDatabase.class, InMemoryDatabase::new);
+        container.register(IOrderRepository.class, OrderRepository.class);
+        container.register(IPaymentService.class, PaymentService.class);
+        container.registerLazy(INotificationService.class, NotificationService.class);
+
+        INotificationService notification = container.resolve(INotificationService.class);
+        System.out.println("   Resolve sonrasi: " + notification);
+
+        OrderService orderService = new OrderService(
+                container.resolve(IOrderRepository.class),
+                container.resolve(IPaymentService.class),
+                notification,
+                container.resolve(ILogger.class));
+        orderService.createOrder("ORD-LAZY", "Klavye", 750);
+
+        System.out.println("   Ilk kullanim sonrasi: " + notification);
+    }
+
+    // ==========================================
+    // 9. RESOLVE METRIKLERI
+    // ==========================================
+
+    /**
+     * enableMetrics ile tip basina resolve sayisi, gecikme, singleton
+     * hit orani ve constructor suresi toplanir.
+     */
+    static void resolutionMetrics() {
+        System.out.println("\n9. RESOLVE METRIKLERI");
+        System.out.println("-".repeat(40));
+
+        AdvancedContainer container = configureServices();
+        ResolutionMetrics metrics = new ResolutionMetrics();
+        container.enableMetrics(metrics);
+
+        for (int i = 0; i < 1_000; i++) {
+            container.resolve(OrderController.class);
+        }
+
+        ResolutionMetrics.Snapshot snapshot = metrics.snapshot();
+        System.out.printf("   %-20s %8s %9s %9s %7s %10s%n",
+                "Tip", "Resolve", "p50(ns)", "p99(ns)", "Hit%", "Ctor(ns)");
+        for (Map.Entry<Class<?>, ResolutionMetrics.TypeSnapshot> entry : snapshot.top(6)) {
+            ResolutionMetrics.TypeSnapshot type = entry.getValue();
+            System.out.printf("   %-20s %8d %9d %9d %7.1f %10d%n",
+                    entry.getKey().getSimpleName(), type.resolves(),
+                    type.percentileNanos(50), type.percentileNanos(99),
+                    type.singletonHitRatio() * 100, type.averageConstructionNanos());
+        }
+        System.out.println("   En derin resolve zinciri: " + snapshot.maxDepth());
+    }
+
+    // ==========================================
+    // 10. WIRING SNAPSHOT
+    // ==========================================
+
+    /**
+     * Ilk calistirmada cozumlenen wiring dosyaya yazilir; sonraki
+     * baslangiclarda constructor taramasi yapilmadan okunur. Kod ile
+     * uyusmayan kayitlar reflection yoluna duser.
+     */
+    static void wiringSnapshot() {
+        System.out.println("\n10. WIRING SNAPSHOT");
+        System.out.println("-".repeat(40));
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("di-wiring", ".tsv");
+
+            // Build adimi / ilk calistirma
+            WiringSnapshot snapshot = configureServices().exportWiring();
+            snapshot.write(file);
+            System.out.println("   Yazildi: " + snapshot.entries().size() + " tip, "
+                    + Files.size(file) + " byte");
+            for (WiringSnapshot.Entry entry : snapshot.entries()) {
+                System.out.printf("   %-22s %-10s %d param%n", simpleName(entry.serviceType()),
+                        entry.lifetime(), entry.paramTypes().size());
+            }
+
+            // Sonraki baslangic
+            AdvancedContainer container = configureServices();
+            WiringLoadResult result = container.loadWiring(WiringSnapshot.read(file));
+            System.out.println("\n   Snapshot'tan hazirlanan: " + result.applied()
+                    + ", eskimis: " + result.stale().size());
+            container.resolve(OrderController.class).createOrder("ORD-SNAP", "Mouse", 300);
+
+            // Kod degismis: PaymentService'in snapshot'taki constructor'i artik yok
+            List<WiringSnapshot.Entry> changed = new ArrayList<>();
+            for (WiringSnapshot.Entry entry : snapshot.entries()) {
+                changed.add(entry.implType().equals(PaymentService.class.getName())
+                        ? new WiringSnapshot.Entry(entry.serviceType(), entry.implType(), entry.lifetime(),
+                                List.of(ILogger.class.getName(), IDatabase.class.getName()))
+                        : entry);
+            }
+            AdvancedContainer stale = configureServices();
+            WiringLoadResult staleResult = stale.loadWiring(new WiringSnapshot(changed));
+            System.out.println("\n   Eskimis snapshot -> reflection'a dusen: " + staleResult.stale().stream().map(DIContainer::simpleName).toList());
+            System.out.println("   Yine de cozuldu: "
+                    + stale.resolve(IPaymentService.class).getClass().getSimpleName());
+        } catch (IOException e) {
+            System.out.println("   [HATA] " + e.getMessage());
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+        }
+    }
+
+    private static String simpleName(String binaryName) {
+        return binaryName.substring(binaryName.lastIndexOf('$') + 1);
+    }
+
+    // ==========================================
+    // 11. INDEKSLI SIPARIS DEPOSU
+    // ==========================================
+
+    /**
+     * IOrderRepository yerine IndexedOrderRepository kaydedilir; OrderService
+     * degismeden ayni depoya yazar, sorgular urun ve fiyat indekslerinden gelir.
+     */
+    static void indexedOrderRepository() {
+        System.out.println("\n11. INDEKSLI SIPARIS DEPOSU");
+        System.out.println("-".repeat(40));
+
+        AdvancedContainer container = configureServices();
+        container.registerSingleton(IOrderRepository.class, IndexedOrderRepository.class);
+
+        OrderService orderService = container.resolve(OrderService.class);
+        orderService.createOrder("ORD-201", "Laptop", 15000);
+        orderService.createOrder("ORD-202", "Mouse", 300);
+        orderService.createOrder("ORD-203", "Laptop", 22000);
+        orderService.createOrder("ORD-204", "Monitor", 4500);
+
+        IndexedOrderRepository repository = (IndexedOrderRepository) container.resolve(IOrderRepository.class);
+        System.out.println("   Urun = Laptop: " + repository.findByProduct("Laptop").stream().map(Order::id).sorted().toList());
+        System.out.println("   Fiyat 300-5000: " + repository.findByPriceRange(300, 5000).stream().map(Order::id).toList());
+        System.out.println("   " + repository.readStats());
+    }
+
+    // ==========================================
+    // 12. KALICI VERITABANI (WRITE-AHEAD LOG)
+    // ==========================================
+
+    /**
+     * InMemoryDatabase bir DurableStore ile kurulur; kayitlar log'a yazilir.
+     * Depo kapatilip ayni dizinden tekrar acildiginda veri geri gelir.
+     */
+    static void durableDatabase() {
+        System.out.println("\n12. KALICI VERITABANI (WRITE-AHEAD LOG)");
+        System.out.println("-".repeat(40));
+
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("di-wal");
+            DurableStore.Builder builder = new DurableStore.Builder()
+                    .directory(directory)
+                    .fsyncPolicy(DurableStore.FsyncPolicy.GROUP);
+
+            try (DurableStore store = builder.open()) {
+                IDatabase database = new InMemoryDatabase(store);
+                database.save("User: Ali");
+                database.save("User: Ayse");
+                store.snapshot();
+                database.save("User: Mehmet");
+                System.out.println("   " + store.stats());
+            }
+
+            // "Yeniden baslatma": snapshot yuklenir, sonrasindaki log oynatilir
+            try (DurableStore store = builder.open()) {
+                IDatabase database = new InMemoryDatabase(store);
+                System.out.println("   " + store.recoveryStats());
+                System.out.println("   ID-0 = " + database.find("ID-0") + ", ID-2 = " + database.find("ID-2"));
+            }
+        } catch (IOException e) {
+            System.out.println("   Hata: " + e.getMessage());
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    static void deleteDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            System.out.println("   Silinemedi: " + directory);
+        }
+    }
+
     // ==========================================
     // INTERFACES
     // ==========================================
@@ -200,18 +559,34 @@ public class DIContainer {
     }
 
     static class InMemoryDatabase implements IDatabase {
-        private final Map<String, String> store = new HashMap<>();
+        private final Map<String, String> store = new ConcurrentHashMap<>();
+        private final DurableStore durable; // null = sadece bellek
+        private final AtomicLong nextId; // Eszamanli save'ler ayni ID'yi almasin
+
+        // Constructor'lar public degil: container parametresiz olani secer
+        InMemoryDatabase() {
+            this(null);
+        }
+
+        // Kalici mod: kayitlar WAL'a yazilir, yeniden acilista geri gelir
+        InMemoryDatabase(DurableStore durable) {
+            this.durable = durable;
+            this.nextId = new AtomicLong(durable != null ? durable.nextSequence("ID-") : 0);
+        }
 
         @Override
         public void save(String data) {
-            String id = "ID-" + store.size();
-            store.put(id, data);
+            if (durable != null) {
+                durable.put("ID-" + nextId.getAndIncrement(), data);
+            } else {
+                store.put("ID-" + nextId.getAndIncrement(), data);
+            }
             System.out.println("   [DB] Kaydedildi: " + data);
         }
 
         @Override
         public String find(String id) {
-            return store.get(id);
+            return durable != null ? durable.get(id) : store.get(id);
         }
     }
 
@@ -323,15 +698,81 @@ public class DIContainer {
         }
     }
 
+    // Request basina olusturulan, scope sonunda kapatilan kaynak
+    static class UnitOfWork implements AutoCloseable {
+        static final AtomicInteger DISPOSED = new AtomicInteger();
+
+        private final List<String> changes = new ArrayList<>();
+
+        public void track(String change) {
+            changes.add(change);
+        }
+
+        @Override
+        public void close() {
+            changes.clear();
+            DISPOSED.incrementAndGet();
+        }
+    }
+
+    // Yavas baslayan altyapi bilesenleri (eager init ornegi)
+    static class ConnectionPool {
+        static final long WARMUP_MILLIS = 200;
+
+        public ConnectionPool() {
+            sleep(WARMUP_MILLIS); // Baglantilari ac
+        }
+    }
+
+    static class ProductCache {
+        static final long WARMUP_MILLIS = 200;
+
+        public ProductCache() {
+            sleep(WARMUP_MILLIS); // Cache'i doldur
+        }
+    }
+
+    static class CatalogService {
+        private final ConnectionPool pool;
+        private final ProductCache cache;
+        private final ILogger logger;
+
+        public CatalogService(ConnectionPool pool, ProductCache cache, ILogger logger) {
+            this.pool = pool;
+            this.cache = cache;
+            this.logger = logger;
+        }
+    }
+
+    static class CycleA {
+        public CycleA(CycleB b) {
+        }
+    }
+
+    static class CycleB {
+        public CycleB(CycleA a) {
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     // ==========================================
     // SIMPLE CONTAINER IMPLEMENTASYONU
     // ==========================================
 
     static class SimpleContainer {
-        private final Map<Class<?>, Class<?>> typeRegistry = new HashMap<>();
-        private final Map<Class<?>, Object> singletonInstances = new HashMap<>();
-        private final Map<Class<?>, Supplier<?>> factories = new HashMap<>();
-        private final Set<Class<?>> singletonTypes = new HashSet<>();
+        private final Map<Class<?>, Class<?>> typeRegistry = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Object> singletonInstances = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Supplier<?>> factories = new ConcurrentHashMap<>();
+        private final Set<Class<?>> singletonTypes = ConcurrentHashMap.newKeySet();
+        private final Set<Class<?>> scopedTypes = ConcurrentHashMap.newKeySet();
+        private volatile ResolutionMetrics metrics;
 
         public <T> void register(Class<T> serviceType, Class<? extends T> implementationType) {
             typeRegistry.put(serviceType, implementationType);
@@ -340,22 +781,61 @@ public class DIContainer {
         public <T> void registerSingleton(Class<T> serviceType, Supplier<T> factory) {
             factories.put(serviceType, factory);
             singletonTypes.add(serviceType);
+            scopedTypes.remove(serviceType);
         }
 
         public <T> void registerTransient(Class<T> serviceType, Supplier<T> factory) {
             factories.put(serviceType, factory);
             singletonTypes.remove(serviceType);
+            scopedTypes.remove(serviceType);
+        }
+
+        // Scope icinde tek instance, scope kapaninca dispose edilir
+        public <T> void registerScoped(Class<T> serviceType, Supplier<T> factory) {
+            factories.put(serviceType, factory);
+            singletonTypes.remove(serviceType);
+            scopedTypes.add(serviceType);
+        }
+
+        public Scope openScope() {
+            return new Scope(this);
+        }
+
+        // Metrikleri ac (null = kapali); kapaliyken resolve sadece bu alani okur
+        public void enableMetrics(ResolutionMetrics metrics) {
+            this.metrics = metrics;
         }
 
-        @SuppressWarnings("unchecked")
         public <T> T resolve(Class<T> serviceType) {
+            ResolutionMetrics m = metrics;
+            if (m == null) {
+                return doResolve(serviceType, null);
+            }
+
+            ResolutionMetrics.Frame frame = m.enter();
+            try {
+                return doResolve(serviceType, m);
+            } finally {
+                m.exit(frame, serviceType);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T doResolve(Class<T> serviceType, ResolutionMetrics m) {
+            if (scopedTypes.contains(serviceType)) {
+                throw new IllegalStateException("Scoped servis scope disinda cozulemez: " + serviceType.getName());
+            }
+
             // Factory varsa kullan
             if (factories.containsKey(serviceType)) {
                 if (singletonTypes.contains(serviceType)) {
+                    if (m != null) {
+                        m.recordSingleton(serviceType, singletonInstances.containsKey(serviceType));
+                    }
                     return (T) singletonInstances.computeIfAbsent(serviceType,
-                            k -> factories.get(k).get());
+                            k -> construct(factories.get(k), m));
                 } else {
-                    return (T) factories.get(serviceType).get();
+                    return (T) construct(factories.get(serviceType), m);
                 }
             }
 
@@ -366,22 +846,108 @@ public class DIContainer {
             }
 
             try {
+                if (m != null) {
+                    m.recordConstruction();
+                }
                 return (T) implType.getDeclaredConstructor().newInstance();
             } catch (Exception e) {
                 throw new RuntimeException("Instance olusturulamadi: " + implType.getName(), e);
             }
         }
+
+        private static Object construct(Supplier<?> factory, ResolutionMetrics m) {
+            if (m != null) {
+                m.recordConstruction();
+            }
+            return factory.get();
+        }
+    }
+
+    /**
+     * Bir is birimi (HTTP request, mesaj, islem) boyunca yasayan scope.
+     * 
+     * - Scoped servisler scope basina bir kez olusturulur
+     * - Singleton/Transient istekleri container'a devredilir
+     * - close(): AutoCloseable instance'lar olusturulma sirasinin tersiyle kapatilir
+     * 
+     * Scope ThreadLocal degil, acikca tasinan bir nesnedir; binlerce scope
+     * ayni anda acik olabilir ve her biri kendi kucuk map'ini kullandigi icin
+     * container'in map'lerinde yazma cekismesi olusmaz.
+     */
+    static final class Scope implements AutoCloseable {
+        private final SimpleContainer container;
+        private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>(4);
+        private final Deque<AutoCloseable> disposables = new ConcurrentLinkedDeque<>();
+        private volatile boolean closed;
+
+        private Scope(SimpleContainer container) {
+            this.container = container;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T resolve(Class<T> serviceType) {
+            if (closed) {
+                throw new IllegalStateException("Scope kapatildi");
+            }
+            if (!container.scopedTypes.contains(serviceType)) {
+                return container.resolve(serviceType);
+            }
+            return (T) instances.computeIfAbsent(serviceType, this::create);
+        }
+
+        private Object create(Class<?> serviceType) {
+            Object instance = container.factories.get(serviceType).get();
+            if (instance instanceof AutoCloseable disposable) {
+                disposables.push(disposable);
+            }
+            return instance;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            // LIFO: once en son olusturulan kapatilir; bir hata digerlerini engellemez
+            RuntimeException failure = null;
+            AutoCloseable disposable;
+            while ((disposable = disposables.poll()) != null) {
+                try {
+                    disposable.close();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = new IllegalStateException("Scope dispose hatasi", e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            instances.clear();
+
+            if (failure != null) {
+                throw failure;
+            }
+        }
     }
 
     // ==========================================
     // ADVANCED CONTAINER (Otomatik Resolution)
     // ==========================================
 
+    /**
+     * Thread-safe container: kayit map'leri ConcurrentHashMap, singleton'lar ise
+     * anahtar basina bir SingletonHolder ile tam olarak BIR KEZ olusturulur.
+     * Isinmadan sonra singleton okumasi kilitsizdir (map get + volatile okuma).
+     */
     static class AdvancedContainer {
-        private final Map<Class<?>, Class<?>> typeRegistry = new HashMap<>();
-        private final Map<Class<?>, Object> singletonInstances = new HashMap<>();
-        private final Map<Class<?>, Supplier<?>> factories = new HashMap<>();
-        private final Set<Class<?>> singletonTypes = new HashSet<>();
+        private final Map<Class<?>, Class<?>> typeRegistry = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Supplier<?>> factories = new ConcurrentHashMap<>();
+        private final Map<Class<?>, SingletonHolder<?>> singletons = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ConstructionPlan> plans = new ConcurrentHashMap<>();
+        private final Set<Class<?>> lazyTypes = ConcurrentHashMap.newKeySet();
+        private volatile ResolutionMetrics metrics;
 
         public <T> void register(Class<T> serviceType, Class<? extends T> implementationType) {
             typeRegistry.put(serviceType, implementationType);
@@ -389,61 +955,548 @@ public class DIContainer {
 
         public <T> void registerSingleton(Class<T> serviceType, Supplier<T> factory) {
             factories.put(serviceType, factory);
-            singletonTypes.add(serviceType);
+            singletons.put(serviceType, new SingletonHolder<>(factory));
+        }
+
+        // Constructor bagimliliklari container tarafindan cozulen singleton
+        public <T> void registerSingleton(Class<T> serviceType, Class<? extends T> implementationType) {
+            typeRegistry.put(serviceType, implementationType);
+            singletons.put(serviceType, new SingletonHolder<>(() -> createInstance(serviceType, implementationType)));
+        }
+
+        /**
+         * Opt-in lazy injection: serviceType'a bagimli siniflara gercek nesne
+         * yerine bir proxy inject edilir. Gercek instance ilk metod cagrisinda
+         * (thread-safe, bir kez) olusturulur. Hic kullanilmayan bagimlilik
+         * hic olusturulmaz.
+         */
+        public <T> void registerLazy(Class<T> serviceType, Class<? extends T> implementationType) {
+            if (!serviceType.isInterface()) {
+                throw new IllegalArgumentException("Lazy proxy sadece interface icin: " + serviceType.getName());
+            }
+            typeRegistry.put(serviceType, implementationType);
+            lazyTypes.add(serviceType);
+        }
+
+        // Metrikleri ac (null = kapali); kapaliyken resolve sadece bu alani okur
+        public void enableMetrics(ResolutionMetrics metrics) {
+            this.metrics = metrics;
         }
 
-        @SuppressWarnings("unchecked")
         public <T> T resolve(Class<T> serviceType) {
-            // Singleton kontrolu
-            if (singletonTypes.contains(serviceType) && singletonInstances.containsKey(serviceType)) {
-                return (T) singletonInstances.get(serviceType);
+            ResolutionMetrics m = metrics;
+            if (m == null) {
+                return doResolve(serviceType, null);
             }
 
-            // Factory varsa kullan
-            if (factories.containsKey(serviceType)) {
-                T instance = (T) factories.get(serviceType).get();
-                if (singletonTypes.contains(serviceType)) {
-                    singletonInstances.put(serviceType, instance);
+            ResolutionMetrics.Frame frame = m.enter();
+            try {
+                return doResolve(serviceType, m);
+            } finally {
+                m.exit(frame, serviceType);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T doResolve(Class<T> serviceType, ResolutionMetrics m) {
+            // Singleton kontrolu - hot path, kilit yok
+            SingletonHolder<?> holder = singletons.get(serviceType);
+            if (holder != null) {
+                if (m == null) {
+                    return (T) holder.get();
                 }
-                return instance;
+                boolean hit = holder.isInitialized();
+                m.recordSingleton(serviceType, hit);
+                if (hit || !factories.containsKey(serviceType)) {
+                    return (T) holder.get();
+                }
+                return (T) construct(holder::get, m);
+            }
+
+            // Factory varsa kullan
+            Supplier<?> factory = factories.get(serviceType);
+            if (factory != null) {
+                return (T) construct(factory, m);
             }
 
             // Type registry'den cozumle
             Class<?> implType = typeRegistry.getOrDefault(serviceType, serviceType);
+            if (lazyTypes.contains(serviceType)) {
+                return LazyProxy.create(serviceType, () -> (T) createInstance(serviceType, implType));
+            }
+            return (T) createInstance(serviceType, implType);
+        }
 
-            try {
-                Constructor<?>[] constructors = implType.getConstructors();
-                if (constructors.length == 0) {
-                    return (T) implType.getDeclaredConstructor().newInstance();
-                }
+        private static Object construct(Supplier<?> factory, ResolutionMetrics m) {
+            if (m != null) {
+                m.recordConstruction();
+            }
+            return factory.get();
+        }
 
-                // En fazla parametreli constructor'i sec
-                Constructor<?> constructor = constructors[0];
-                for (Constructor<?> c : constructors) {
-                    if (c.getParameterCount() > constructor.getParameterCount()) {
-                        constructor = c;
-                    }
-                }
+        private Object createInstance(Class<?> serviceType, Class<?> implType) {
+            // Construction plan ilk kullanimda bir kez derlenir, sonra cache'den gelir
+            ConstructionPlan plan = planFor(implType);
 
+            try {
                 // Constructor parametrelerini recursive olarak cozumle
-                Class<?>[] paramTypes = constructor.getParameterTypes();
+                Class<?>[] paramTypes = plan.paramTypes();
                 Object[] params = new Object[paramTypes.length];
 
                 for (int i = 0; i < paramTypes.length; i++) {
                     params[i] = resolve(paramTypes[i]);
                 }
 
-                T instance = (T) constructor.newInstance(params);
+                ResolutionMetrics m = metrics;
+                if (m != null) {
+                    m.recordConstruction();
+                }
+                return plan.newInstance(params);
+
+            } catch (Error e) {
+                throw e; // OutOfMemoryError vb. sarmalanmaz
+            } catch (Throwable e) {
+                throw new RuntimeException("Instance olusturulamadi: " + implType.getName(), e);
+            }
+        }
 
-                if (singletonTypes.contains(serviceType)) {
-                    singletonInstances.put(serviceType, instance);
+        private ConstructionPlan planFor(Class<?> implType) {
+            return plans.computeIfAbsent(implType, ConstructionPlan::compile);
+        }
+
+        /**
+         * Tum singleton'lari uygulama baslarken olusturur.
+         * 
+         * 1. Constructor imzalarindan bagimlilik grafigi (DAG) cikarilir
+         * 2. Dongu varsa hicbir sey olusturulmadan hata verilir
+         * 3. Singleton'lar katman katman olusturulur; ayni katmandakiler
+         *    birbirinden bagimsizdir ve ForkJoinPool uzerinde paralel calisir
+         */
+        public InitializationReport initializeAll() {
+            TreeMap<Integer, List<Class<?>>> byLayer = singletonsByLayer();
+            int widestLayer = byLayer.values().stream().mapToInt(List::size).max().orElse(1);
+
+            // Baslangic isi genelde I/O bekler (DB, cache): katman genisligi kadar thread
+            ForkJoinPool pool = new ForkJoinPool(Math.min(64, widestLayer));
+            try {
+                return initializeAll(pool, byLayer);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        public InitializationReport initializeAll(ForkJoinPool pool) {
+            return initializeAll(pool, singletonsByLayer());
+        }
+
+        private InitializationReport initializeAll(ForkJoinPool pool, TreeMap<Integer, List<Class<?>>> byLayer) {
+            List<NodeTiming> timings = Collections.synchronizedList(new ArrayList<>());
+            long start = System.nanoTime();
+
+            for (Map.Entry<Integer, List<Class<?>>> layer : byLayer.entrySet()) {
+                List<Callable<Object>> tasks = new ArrayList<>();
+                for (Class<?> type : layer.getValue()) {
+                    tasks.add(() -> {
+                        long nodeStart = System.nanoTime();
+                        Object instance = singletons.get(type).get();
+                        timings.add(new NodeTiming(type, layer.getKey(),
+                                System.nanoTime() - nodeStart, Thread.currentThread().getName()));
+                        return instance;
+                    });
+                }
+                // Katmanin tamamini bekle, hata varsa yukari tasi
+                for (Future<Object> future : pool.invokeAll(tasks)) {
+                    try {
+                        future.get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Baslatma kesildi", e);
+                    } catch (ExecutionException e) {
+                        if (e.getCause() instanceof Error error) {
+                            throw error;
+                        }
+                        throw new IllegalStateException("Singleton olusturulamadi", e.getCause());
+                    }
                 }
+            }
 
-                return instance;
+            List<NodeTiming> ordered = new ArrayList<>(timings);
+            ordered.sort(Comparator.comparingInt(NodeTiming::layer).thenComparing(t -> t.type().getSimpleName()));
+            return new InitializationReport(ordered, System.nanoTime() - start);
+        }
 
-            } catch (Exception e) {
+        // Katman -> o katmandaki singleton tipleri
+        private TreeMap<Integer, List<Class<?>>> singletonsByLayer() {
+            TreeMap<Integer, List<Class<?>>> byLayer = new TreeMap<>();
+            computeLayers(singletons.keySet()).forEach((type, layer) -> {
+                if (singletons.containsKey(type)) {
+                    byLayer.computeIfAbsent(layer, k -> new ArrayList<>()).add(type);
+                }
+            });
+            return byLayer;
+        }
+
+        /**
+         * Her tip icin katman numarasi: bagimliligi yoksa 0,
+         * varsa en derin bagimliliginin katmani + 1.
+         * Dongu bulunursa IllegalStateException (yol ile birlikte).
+         *
+         * Lazy bagimliliklar kenar sayilmaz: inject edilen proxy'dir, gercek
+         * instance ilk cagrida kurulur. Bu yuzden lazy tip bagimli sinifin
+         * katmanini yukseltmez ve lazy kenar uzerinden gecen dongu hata degildir.
+         */
+        private Map<Class<?>, Integer> computeLayers(Collection<Class<?>> roots) {
+            Map<Class<?>, Integer> layers = new HashMap<>();
+            Deque<Class<?>> path = new ArrayDeque<>();
+            for (Class<?> root : roots) {
+                layerOf(root, layers, path);
+            }
+            return layers;
+        }
+
+        private int layerOf(Class<?> type, Map<Class<?>, Integer> layers, Deque<Class<?>> path) {
+            Integer known = layers.get(type);
+            if (known != null) {
+                return known;
+            }
+            if (path.contains(type)) {
+                StringBuilder cycle = new StringBuilder();
+                boolean inCycle = false;
+                for (Iterator<Class<?>> it = path.descendingIterator(); it.hasNext();) {
+                    Class<?> step = it.next();
+                    inCycle |= step == type;
+                    if (inCycle) {
+                        cycle.append(step.getSimpleName()).append(" -> ");
+                    }
+                }
+                cycle.append(type.getSimpleName());
+                throw new IllegalStateException("Circular dependency: " + cycle);
+            }
+
+            path.push(type);
+            int layer = 0;
+            for (Class<?> dependency : dependenciesOf(type)) {
+                if (!isLazyEdge(dependency)) {
+                    layer = Math.max(layer, layerOf(dependency, layers, path) + 1);
+                }
+            }
+            path.pop();
+
+            layers.put(type, layer);
+            return layer;
+        }
+
+        // doResolve ile ayni sira: singleton ve factory kaydi lazy'den once gelir
+        private boolean isLazyEdge(Class<?> dependency) {
+            return lazyTypes.contains(dependency)
+                    && !singletons.containsKey(dependency)
+                    && !factories.containsKey(dependency);
+        }
+
+        // ==========================================
+        // WIRING SNAPSHOT
+        // ==========================================
+
+        /**
+         * Kayitli tum tiplerin ve dolayli bagimliliklarinin cozumlenmis
+         * wiring'ini cikarir. Factory ile kayitli tipler dahil edilmez
+         * (Supplier kodda kalir, kaydedilecek constructor yok).
+         */
+        public WiringSnapshot exportWiring() {
+            Set<Class<?>> roots = new LinkedHashSet<>(typeRegistry.keySet());
+            roots.addAll(singletons.keySet());
+
+            Map<Class<?>, Integer> layers = computeLayers(roots);
+            List<Class<?>> ordered = new ArrayList<>(layers.keySet());
+            ordered.sort(Comparator.comparingInt((Class<?> type) -> layers.get(type)).thenComparing(Class::getName));
+
+            List<WiringSnapshot.Entry> entries = new ArrayList<>();
+            for (Class<?> serviceType : ordered) {
+                if (factories.containsKey(serviceType)) {
+                    continue;
+                }
+                Class<?> implType = typeRegistry.getOrDefault(serviceType, serviceType);
+                List<String> params = new ArrayList<>();
+                for (Class<?> param : planFor(implType).paramTypes()) {
+                    params.add(param.getName());
+                }
+                entries.add(new WiringSnapshot.Entry(serviceType.getName(), implType.getName(),
+                        lifetimeOf(serviceType), params));
+            }
+            return new WiringSnapshot(entries);
+        }
+
+        /**
+         * Snapshot'taki her tip icin constructor planini (compile() ile ayni
+         * MethodHandle plani) onceden hazirlar. Kod tarafindaki kayit (impl
+         * tipi, lifetime) snapshot ile uyusmuyorsa veya secilecek constructor
+         * degismisse o tip eskimis sayilir ve ilk resolve'da normal yoldan
+         * cozulur.
+         *
+         * Kayitlar (register...) yine kodda yapilir; snapshot sadece
+         * kesif adimini atlar.
+         */
+        public WiringLoadResult loadWiring(WiringSnapshot snapshot) {
+            ClassLoader loader = AdvancedContainer.class.getClassLoader();
+            int applied = 0;
+            List<String> stale = new ArrayList<>();
+
+            for (WiringSnapshot.Entry entry : snapshot.entries()) {
+                try {
+                    Class<?> serviceType = Class.forName(entry.serviceType(), false, loader);
+                    Class<?> implType = Class.forName(entry.implType(), false, loader);
+                    if (factories.containsKey(serviceType)
+                            || typeRegistry.getOrDefault(serviceType, serviceType) != implType
+                            || !lifetimeOf(serviceType).equals(entry.lifetime())) {
+                        stale.add(entry.serviceType());
+                        continue;
+                    }
+
+                    Class<?>[] paramTypes = new Class<?>[entry.paramTypes().size()];
+                    for (int i = 0; i < paramTypes.length; i++) {
+                        paramTypes[i] = Class.forName(entry.paramTypes().get(i), false, loader);
+                    }
+                    plans.putIfAbsent(implType, ConstructionPlan.fromSnapshot(implType, paramTypes));
+                    applied++;
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    stale.add(entry.serviceType());
+                }
+            }
+            return new WiringLoadResult(applied, stale);
+        }
+
+        private String lifetimeOf(Class<?> serviceType) {
+            if (singletons.containsKey(serviceType)) {
+                return "SINGLETON";
+            }
+            return lazyTypes.contains(serviceType) ? "LAZY" : "TRANSIENT";
+        }
+
+        // Factory ile kayitli tiplerin bagimliliklari bilinmez (Supplier opak)
+        private Class<?>[] dependenciesOf(Class<?> serviceType) {
+            if (factories.containsKey(serviceType)) {
+                return new Class<?>[0];
+            }
+            return planFor(typeRegistry.getOrDefault(serviceType, serviceType)).paramTypes();
+        }
+    }
+
+    record NodeTiming(Class<?> type, int layer, long nanos, String thread) {
+    }
+
+    record InitializationReport(List<NodeTiming> nodes, long totalNanos) {
+    }
+
+    /**
+     * Bir implementasyon tipi icin onceden hazirlanmis olusturma plani.
+     * Constructor secimi ve reflection sadece compile() sirasinda yapilir;
+     * sonraki her olusturma, parametre sayisi onceden baglanmis bir
+     * MethodHandle cagrisidir.
+     *
+     * Snapshot'tan gelen planlar (fromSnapshot) da ayni MethodHandle
+     * yolunu kullanir; kayitli constructor, compile()'in bugun sececegi
+     * constructor degilse (orn. daha genis bir constructor eklenmis) plan
+     * kurulmaz ve tip eskimis sayilir.
+     */
+    static final class ConstructionPlan {
+        private static final MethodType GENERIC_FACTORY = MethodType.methodType(Object.class, Object[].class);
+
+        private final Class<?>[] paramTypes;
+        private final MethodHandle factory;
+
+        private ConstructionPlan(Class<?>[] paramTypes, MethodHandle factory) {
+            this.paramTypes = paramTypes;
+            this.factory = factory;
+        }
+
+        static ConstructionPlan compile(Class<?> implType) {
+            try {
+                return of(selectConstructor(implType));
+            } catch (ReflectiveOperationException e) {
                 throw new RuntimeException("Instance olusturulamadi: " + implType.getName(), e);
             }
         }
+
+        /**
+         * Snapshot'ta kayitli constructor icin plan. Kayitli imza, selectConstructor'in
+         * secimiyle ayni degilse (constructor silinmis, degismis veya daha genisi
+         * eklenmis) snapshot eskimistir.
+         */
+        static ConstructionPlan fromSnapshot(Class<?> implType, Class<?>[] paramTypes)
+                throws ReflectiveOperationException {
+            Constructor<?> constructor = selectConstructor(implType);
+            if (!Arrays.equals(constructor.getParameterTypes(), paramTypes)) {
+                throw new NoSuchMethodException("Snapshot'taki constructor artik secilmiyor: " + implType.getName()
+                        + Arrays.toString(paramTypes) + ", guncel: " + constructor);
+            }
+            return of(constructor);
+        }
+
+        private static ConstructionPlan of(Constructor<?> constructor) throws IllegalAccessException {
+            Class<?>[] paramTypes = constructor.getParameterTypes();
+
+            // (A, B, C) -> Impl  =>  (Object[]) -> Object
+            MethodHandle handle = MethodHandles.lookup()
+                    .unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, paramTypes.length)
+                    .asType(GENERIC_FACTORY);
+
+            return new ConstructionPlan(paramTypes, handle);
+        }
+
+        // En fazla parametreli public constructor, yoksa parametresiz constructor
+        static Constructor<?> selectConstructor(Class<?> implType) throws NoSuchMethodException {
+            Constructor<?>[] constructors = implType.getConstructors();
+            if (constructors.length == 0) {
+                return implType.getDeclaredConstructor();
+            }
+
+            Constructor<?> constructor = constructors[0];
+            for (Constructor<?> c : constructors) {
+                if (c.getParameterCount() > constructor.getParameterCount()) {
+                    constructor = c;
+                }
+            }
+            return constructor;
+        }
+
+        Class<?>[] paramTypes() {
+            return paramTypes;
+        }
+
+        Object newInstance(Object[] args) throws Throwable {
+            return factory.invokeExact(args);
+        }
+    }
+
+    /**
+     * Cozumlenmis wiring'in (tip -> implementasyon, secilen constructor,
+     * lifetime) kaydi. Build adiminda veya ilk calistirmada exportWiring()
+     * ile uretilip dosyaya yazilir; sonraki baslangiclarda loadWiring() ile
+     * okunur ve planlar ilk resolve'u beklemeden hazirlanir.
+     *
+     * Dosya formati (satir basina bir tip, bagimliliklar once):
+     *   servisTipi TAB implTipi TAB lifetime TAB param1,param2
+     *
+     * Kayitli constructor, bugun secilecek constructor ile karsilastirilir:
+     * sinifa sonradan daha genis bir constructor eklenirse tip eskimis
+     * sayilir ve normal yoldan cozulur.
+     */
+    record WiringSnapshot(List<Entry> entries) {
+        static final String HEADER = "# di-wiring v1";
+
+        record Entry(String serviceType, String implType, String lifetime, List<String> paramTypes) {
+        }
+
+        void write(Path file) throws IOException {
+            List<String> lines = new ArrayList<>();
+            lines.add(HEADER);
+            for (Entry entry : entries) {
+                lines.add(entry.serviceType() + '\t' + entry.implType() + '\t' + entry.lifetime()
+                        + '\t' + String.join(",", entry.paramTypes()));
+            }
+            Files.write(file, lines);
+        }
+
+        // java.io ile okunur: soguk JVM'de Files.readAllLines'in NIO kurulumu birkac ms ekler
+        static WiringSnapshot read(Path file) throws IOException {
+            List<Entry> entries = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new FileReader(file.toFile(), StandardCharsets.UTF_8))) {
+                if (!HEADER.equals(reader.readLine())) {
+                    throw new IOException("Taninmayan wiring dosyasi: " + file);
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split("\t", -1);
+                    if (parts.length != 4) {
+                        throw new IOException("Bozuk satir: " + line);
+                    }
+                    List<String> params = parts[3].isEmpty() ? List.of() : List.of(parts[3].split(","));
+                    entries.add(new Entry(parts[0], parts[1], parts[2], params));
+                }
+            }
+            return new WiringSnapshot(entries);
+        }
+    }
+
+    // applied: snapshot'tan hazirlanan plan sayisi, stale: reflection'a dusen tipler
+    record WiringLoadResult(int applied, List<String> stale) {
+    }
+
+    /**
+     * Interface proxy'si: ilk metod cagrisinda gercek nesneyi SingletonHolder
+     * ile bir kez olusturur, sonraki cagrilari ona iletir.
+     *
+     * Iletme bedava degildir: her cagri InvocationHandler ve Method.invoke
+     * uzerinden gider (argumanlar Object[] icinde, primitive donus box'lanir).
+     * Sicak yoldaki ince metodlar icin lazy yerine eager tercih edin
+     * (DIContainerBenchmark.lazyVsEagerGraph cagri basina farki olcer).
+     */
+    static final class LazyProxy implements InvocationHandler {
+        private final Class<?> serviceType;
+        private final SingletonHolder<?> target;
+
+        private LazyProxy(Class<?> serviceType, Supplier<?> factory) {
+            this.serviceType = serviceType;
+            this.target = new SingletonHolder<>(factory);
+        }
+
+        static <T> T create(Class<T> serviceType, Supplier<T> factory) {
+            return serviceType.cast(Proxy.newProxyInstance(serviceType.getClassLoader(),
+                    new Class<?>[] { serviceType }, new LazyProxy(serviceType, factory)));
+        }
+
+        boolean isInitialized() {
+            return target.isInitialized();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Object metodlari gercek nesneyi olusturmaz
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "LazyProxy[" + serviceType.getSimpleName()
+                            + (isInitialized() ? ", olusturuldu]" : ", bekliyor]");
+                };
+            }
+            try {
+                return method.invoke(target.get(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Anahtar basina "once" semantigi: ilk get() factory'yi calistirir,
+     * ayni anda gelen diger thread'ler bekler ve ayni instance'i alir.
+     * Olusturulduktan sonra get() sadece bir volatile okumadir.
+     */
+    static final class SingletonHolder<T> {
+        private final Supplier<T> factory;
+        private volatile T instance;
+
+        SingletonHolder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        boolean isInitialized() {
+            return instance != null;
+        }
+
+        T get() {
+            T result = instance;
+            if (result != null) {
+                return result;
+            }
+            synchronized (this) {
+                if (instance == null) {
+                    instance = factory.get();
+                }
+                return instance;
+            }
+        }
     }
 }
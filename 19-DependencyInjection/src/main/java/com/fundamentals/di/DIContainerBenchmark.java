@@ -0,0 +1,362 @@
+package com.fundamentals.di;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CONTAINER OLCUMLERI
+ *
+ * DIContainer.AdvancedContainer: eszamanli resolve, derlenmis
+ * construction plani, lazy proxy, metrik maliyeti ve soguk baslangic.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.DIContainerBenchmark"
+ */
+public class DIContainerBenchmark {
+
+    public static void main(String[] args) {
+        concurrentResolveThroughput();
+        reflectiveVsCompiledConstruction();
+        lazyVsEagerGraph();
+        metricsOverhead();
+        coldStart();
+    }
+
+    // ==========================================
+    // 1. ESZAMANLI RESOLVE THROUGHPUT
+    // ==========================================
+
+    /**
+     * AdvancedContainer.resolve throughput'u, 1-64 thread.
+     * Singleton okumasi kilitsiz oldugundan thread sayisi arttikca
+     * throughput cekirdek sayisina kadar olceklenmeli.
+     */
+    static void concurrentResolveThroughput() {
+        System.out.println("\n1. ESZAMANLI RESOLVE THROUGHPUT");
+        System.out.println("-".repeat(40));
+
+        DIContainer.AdvancedContainer container = DIContainer.configureServices();
+        container.registerSingleton(DIContainer.IEmailService.class, DIContainer.SmtpEmailService::new);
+
+        System.out.printf("   %-8s %18s %18s%n", "Thread", "Singleton ops/s", "Transient ops/s");
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            double singleton = DIBenchmarks.throughput(threads,
+                    () -> container.resolve(DIContainer.IEmailService.class));
+            double transientOps = DIBenchmarks.throughput(threads,
+                    () -> container.resolve(DIContainer.PaymentService.class));
+            System.out.printf("   %-8d %,18.0f %,18.0f%n", threads, singleton, transientOps);
+        }
+    }
+
+    // ==========================================
+    // 2. REFLECTION vs DERLENMIS CONSTRUCTION PLAN
+    // ==========================================
+
+    /**
+     * Transient bir servisi (PaymentService(ILogger)) uc yolla olusturur:
+     * - Her seferinde getConstructors() + Constructor.newInstance
+     * - AdvancedContainer'in cache'lenmis MethodHandle plani
+     * - Dogrudan new
+     */
+    static void reflectiveVsCompiledConstruction() {
+        System.out.println("\n2. REFLECTION vs DERLENMIS CONSTRUCTION PLAN");
+        System.out.println("-".repeat(40));
+
+        DIContainer.AdvancedContainer container = DIContainer.configureServices();
+        DIContainer.ILogger logger = container.resolve(DIContainer.ILogger.class);
+
+        double reflective = DIBenchmarks.throughput(1,
+                () -> reflectiveCreate(container, DIContainer.PaymentService.class));
+        double compiled = DIBenchmarks.throughput(1,
+                () -> container.resolve(DIContainer.PaymentService.class));
+        double direct = DIBenchmarks.throughput(1,
+                () -> new DIContainer.PaymentService(logger));
+
+        System.out.printf("   %-22s %,15.0f ops/s%n", "Reflection (eski yol)", reflective);
+        System.out.printf("   %-22s %,15.0f ops/s%n", "MethodHandle plani", compiled);
+        System.out.printf("   %-22s %,15.0f ops/s%n", "Dogrudan new", direct);
+    }
+
+    // Plan oncesi resolve mantigi: her cagrida constructor taramasi ve reflection
+    static Object reflectiveCreate(DIContainer.AdvancedContainer container, Class<?> implType) {
+        try {
+            java.lang.reflect.Constructor<?> constructor =
+                    DIContainer.ConstructionPlan.selectConstructor(implType);
+            Class<?>[] paramTypes = constructor.getParameterTypes();
+            Object[] params = new Object[paramTypes.length];
+            for (int i = 0; i < paramTypes.length; i++) {
+                params[i] = container.resolve(paramTypes[i]);
+            }
+            return constructor.newInstance(params);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // ==========================================
+    // 4. LAZY vs EAGER BAGIMLILIK GRAFIGI
+    // ==========================================
+
+    /**
+     * RequestHandler dort bagimlilik aliyor ama mutlu yolda sadece birini
+     * kullaniyor. Cok sayida kucuk dugumden olusan bir graf: HANDLER_COUNT
+     * handler, her biri 4 yeni (transient) bagimlilik. Eager modda tum
+     * bagimliliklar, lazy modda sadece kullanilan olusur.
+     *
+     * Lazy'nin bedeli: her proxy cagrisi InvocationHandler + Method.invoke
+     * uzerinden gider; son satir isinmis handler'da cagri basina maliyeti
+     * dogrudan cagri ile karsilastirir.
+     */
+    static void lazyVsEagerGraph() {
+        System.out.println("\n4. LAZY vs EAGER BAGIMLILIK GRAFIGI");
+        System.out.println("-".repeat(40));
+
+        RequestHandler[][] graphs = new RequestHandler[2][];
+        for (boolean lazy : new boolean[] { false, true }) {
+            DIContainer.AdvancedContainer container = new DIContainer.AdvancedContainer();
+            registerExpensive(container, lazy, IReportEngine.class, ReportEngine.class);
+            registerExpensive(container, lazy, ISearchIndex.class, SearchIndex.class);
+            registerExpensive(container, lazy, IPdfRenderer.class, PdfRenderer.class);
+            registerExpensive(container, lazy, IGeoService.class, GeoService.class);
+
+            long heapBefore = DIBenchmarks.usedHeap();
+            long start = System.nanoTime();
+            RequestHandler[] handlers = new RequestHandler[HANDLER_COUNT];
+            for (int i = 0; i < handlers.length; i++) {
+                handlers[i] = container.resolve(RequestHandler.class);
+                handlers[i].handle();
+            }
+            long elapsed = System.nanoTime() - start;
+            long heapAfter = DIBenchmarks.usedHeap();
+
+            System.out.printf("   %-6s %,d handler: %5d ms, heap +%,d MB%n",
+                    lazy ? "Lazy" : "Eager", handlers.length, elapsed / 1_000_000,
+                    (heapAfter - heapBefore) / (1024 * 1024));
+            graphs[lazy ? 1 : 0] = handlers;
+        }
+
+        RequestHandler eager = graphs[0][0];
+        RequestHandler lazy = graphs[1][0];
+        graphs = null;
+        DIBenchmarks.settleHeap();
+        double direct = DIBenchmarks.throughput(1, () -> DIBenchmarks.blackhole = eager.handle());
+        double proxied = DIBenchmarks.throughput(1, () -> DIBenchmarks.blackhole = lazy.handle());
+        System.out.printf("   handle() cagrisi: dogrudan %.0f ns, lazy proxy %.0f ns%n",
+                1e9 / direct, 1e9 / proxied);
+    }
+
+    static final int HANDLER_COUNT = 5_000;
+
+    static <T> void registerExpensive(DIContainer.AdvancedContainer container, boolean lazy,
+            Class<T> serviceType, Class<? extends T> implType) {
+        if (lazy) {
+            container.registerLazy(serviceType, implType);
+        } else {
+            container.register(serviceType, implType);
+        }
+    }
+
+    interface IReportEngine {
+        int render();
+    }
+
+    interface ISearchIndex {
+        int search();
+    }
+
+    interface IPdfRenderer {
+        int render();
+    }
+
+    interface IGeoService {
+        int locate();
+    }
+
+    // Kucuk ama bedava olmayan bagimlilik: 2 KB durum + baslatma hesabi
+    abstract static class ExpensiveDependency {
+        private final int[] state = new int[512];
+
+        ExpensiveDependency() {
+            for (int i = 0; i < state.length; i++) {
+                state[i] = Integer.rotateLeft(i * 0x9E3779B9, i & 31);
+            }
+        }
+
+        int touch() {
+            return state[state.length - 1];
+        }
+    }
+
+    static class ReportEngine extends ExpensiveDependency implements IReportEngine {
+        @Override
+        public int render() {
+            return touch();
+        }
+    }
+
+    static class SearchIndex extends ExpensiveDependency implements ISearchIndex {
+        @Override
+        public int search() {
+            return touch();
+        }
+    }
+
+    static class PdfRenderer extends ExpensiveDependency implements IPdfRenderer {
+        @Override
+        public int render() {
+            return touch();
+        }
+    }
+
+    static class GeoService extends ExpensiveDependency implements IGeoService {
+        @Override
+        public int locate() {
+            return touch();
+        }
+    }
+
+    static class RequestHandler {
+        private final IReportEngine reports;
+        private final ISearchIndex search;
+        private final IPdfRenderer pdf;
+        private final IGeoService geo;
+
+        public RequestHandler(IReportEngine reports, ISearchIndex search, IPdfRenderer pdf, IGeoService geo) {
+            this.reports = reports;
+            this.search = search;
+            this.pdf = pdf;
+            this.geo = geo;
+        }
+
+        // Mutlu yol: sadece arama kullanilir
+        int handle() {
+            return search.search();
+        }
+    }
+
+    // ==========================================
+    // 7. METRIK MALIYETI
+    // ==========================================
+
+    /**
+     * OrderService tum grafiyle (9 resolve) cozulur. Zamanlanan her resolve
+     * iki System.nanoTime okur; "acik" satiri ile "kapali" satiri arasindaki
+     * farkin cogu 18 saat okumasidir (okuma maliyeti ayrica yazdirilir, sanal
+     * makinelerde 60 ns'ye kadar cikabilir). Ornekleme ile saat okumasi
+     * kalkar, geriye resolve basina sayac maliyeti kalir.
+     * Kapatildiktan sonra throughput ilk degere donmeli.
+     */
+    static void metricsOverhead() {
+        System.out.println("\n7. METRIK MALIYETI");
+        System.out.println("-".repeat(40));
+
+        DIContainer.AdvancedContainer container = DIContainer.configureServices();
+
+        double disabled = DIBenchmarks.throughput(1, () -> container.resolve(DIContainer.OrderService.class));
+        container.enableMetrics(new ResolutionMetrics());
+        double enabled = DIBenchmarks.throughput(1, () -> container.resolve(DIContainer.OrderService.class));
+        container.enableMetrics(new ResolutionMetrics(64));
+        double sampled = DIBenchmarks.throughput(1, () -> container.resolve(DIContainer.OrderService.class));
+        container.enableMetrics(null);
+        double disabledAgain = DIBenchmarks.throughput(1, () -> container.resolve(DIContainer.OrderService.class));
+        double clockReads = DIBenchmarks.throughput(1, () -> DIBenchmarks.blackhole = System.nanoTime());
+
+        System.out.printf("   %-24s %,15.0f ops/s %,9.0f ns/op%n", "Metrik kapali", disabled, 1e9 / disabled);
+        System.out.printf("   %-24s %,15.0f ops/s %,9.0f ns/op%n", "Metrik acik", enabled, 1e9 / enabled);
+        System.out.printf("   %-24s %,15.0f ops/s %,9.0f ns/op%n", "Metrik acik, 1/64 ornek", sampled, 1e9 / sampled);
+        System.out.printf("   %-24s %,15.0f ops/s %,9.0f ns/op%n", "Tekrar kapali", disabledAgain, 1e9 / disabledAgain);
+        System.out.printf("   System.nanoTime: %.0f ns/okuma%n", 1e9 / clockReads);
+    }
+
+    // ==========================================
+    // 8. SOGUK BASLANGIC (WIRING SNAPSHOT)
+    // ==========================================
+
+    static final int COLD_START_RUNS = 5;
+
+    /**
+     * Her olcum yeni bir JVM'de yapilir (soguk class loading, JIT yok).
+     * Sure, main'den OrderController hazir olana kadar gecen suredir;
+     * JVM'in kendi acilisi ayrica "Surec" sutununda.
+     * - reflection: configureServices + resolve (constructor tarama + MethodHandle)
+     * - snapshot: ayni kayitlar + loadWiring (planlar snapshot'tan, secilen
+     *   constructor dogrulanir; MethodHandle yine uretilir)
+     * - elle: CompositionRoot tarzinda new ile wiring (reflection yok, alt sinir)
+     */
+    static void coldStart() {
+        System.out.println("\n8. SOGUK BASLANGIC (WIRING SNAPSHOT)");
+        System.out.println("-".repeat(40));
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("di-wiring", ".tsv");
+            DIContainer.configureServices().exportWiring().write(file);
+
+            System.out.printf("   %-12s %14s %14s%n", "Mod", "Wiring (ms)", "Surec (ms)");
+            for (String mode : new String[] { "reflection", "snapshot", "elle" }) {
+                long[] wiring = new long[COLD_START_RUNS];
+                long[] process = new long[COLD_START_RUNS];
+                for (int i = 0; i < COLD_START_RUNS; i++) {
+                    long start = System.nanoTime();
+                    wiring[i] = runColdStart(mode, file);
+                    process[i] = System.nanoTime() - start;
+                }
+                System.out.printf("   %-12s %14.1f %14.1f%n", mode,
+                        median(wiring) / 1e6, median(process) / 1e6);
+            }
+            System.out.println("   (" + COLD_START_RUNS + " calistirmanin medyani)");
+        } catch (IOException e) {
+            System.out.println("   [HATA] " + e.getMessage());
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+        }
+    }
+
+    // Cocuk surecin olctugu wiring suresi (ns)
+    private static long runColdStart(String mode, Path file) throws IOException {
+        String output = DIBenchmarks.runInNewJvm(List.of(), ColdStart.class, mode, file.toString());
+        return Long.parseLong(output.substring(output.lastIndexOf('\n') + 1));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * coldStart() tarafindan yeni JVM'de calistirilir; tek satir: wiring suresi (ns).
+     */
+    static class ColdStart {
+        public static void main(String[] args) throws IOException {
+            long start = System.nanoTime();
+            Object root;
+            switch (args[0]) {
+                case "reflection" -> root = DIContainer.configureServices().resolve(DIContainer.OrderController.class);
+                case "snapshot" -> {
+                    DIContainer.AdvancedContainer container = DIContainer.configureServices();
+                    container.loadWiring(DIContainer.WiringSnapshot.read(Paths.get(args[1])));
+                    root = container.resolve(DIContainer.OrderController.class);
+                }
+                default -> {
+                    DIContainer.ILogger logger = new DIContainer.ConsoleLogger();
+                    DIContainer.IDatabase database = new DIContainer.InMemoryDatabase();
+                    root = new DIContainer.OrderController(new DIContainer.OrderService(
+                            new DIContainer.OrderRepository(database),
+                            new DIContainer.PaymentService(logger),
+                            new DIContainer.NotificationService(logger),
+                            logger));
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            DIBenchmarks.blackhole = root;
+            System.out.println(elapsed);
+        }
+    }
+}
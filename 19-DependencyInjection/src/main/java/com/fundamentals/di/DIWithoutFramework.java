@@ -1,6 +1,8 @@
 package com.fundamentals.di;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * FRAMEWORK KULLANMADAN DEPENDENCY INJECTION
@@ -75,24 +77,217 @@ public class DIWithoutFramework {
 
         System.out.println("\n   Avantaj: Merkezi olusturma noktasi.");
         System.out.println("   Avantaj: Shared dependencies (singleton benzeri).");
+
+        // Memoize edilmis graf: uygulama acilirken bir kez kurulur
+        long start = System.nanoTime();
+        int built = factory.warmUp();
+        System.out.printf("%n   Warm-up: %d singleton %.2f ms'de kuruldu%n", built, (System.nanoTime() - start) / 1e6);
+        System.out.println("   Ayni UserService: " + (factory.get(UserService.class) == factory.get(UserService.class)));
+        System.out.println("   Yeni OrderService (createOrderService): "
+                + (factory.createOrderService() != factory.get(OrderService.class)));
+
+        // Thread'e ozel yasam: her thread kendi ReportService'ini alir
+        factory.register(ReportService.class, Lifetime.PER_THREAD,
+                f -> new ReportService(f.get(ILogger.class), f.get(IDatabase.class)));
+        ReportService[] other = new ReportService[1];
+        Thread worker = new Thread(() -> {
+            try {
+                other[0] = factory.get(ReportService.class);
+            } finally {
+                factory.releaseThread(); // Havuz thread'i olsaydi bir sonraki ise sizmazdi
+            }
+        });
+        worker.start();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ReportService mine = factory.get(ReportService.class);
+        System.out.println("   PER_THREAD: ayni thread ayni, farkli thread farkli: "
+                + (mine == factory.get(ReportService.class) && mine != other[0]));
+        factory.releaseThread();
+    }
+
+    /**
+     * Servis yasam suresi:
+     * - SINGLETON: ilk istekte (veya warmUp'ta) bir kez kurulur, tum thread'ler paylasir
+     * - PER_THREAD: thread basina bir kez (thread-safe olmayan servisler icin);
+     *   thread isini bitirince ServiceFactory.releaseThread() ile birakilir
+     * - TRANSIENT: her istekte yeniden
+     */
+    enum Lifetime {
+        SINGLETON, PER_THREAD, TRANSIENT
     }
 
+    /**
+     * Tip basina memoize eden fabrika.
+     *
+     * Tarif (recipe) bagimliliklarini f.get(...) ile ister; graf boylece
+     * tek yerde tanimlanir. Okuma yolu kilitsizdir: kayitlar degismez bir
+     * Map'te (volatile, copy-on-write), singleton instance volatile bir
+     * alanda. Kilit sadece bir singleton'in ilk kurulumunda alinir (double
+     * checked), ayni singleton iki kez kurulmaz.
+     *
+     * Kurulum kilidi fabrika basina tektir, registration basina degil: A'nin
+     * tarifi B'yi, B'ninki A'yi isterse iki thread kilitleri ters sirada
+     * alip kilitlenirdi. Tek (reentrant) kilitle ikinci thread bekler; ayni
+     * thread'deki dongu ise kurulmakta olan kayda tekrar girerken yakalanir.
+     *
+     * createXxxService() metodlari eskisi gibi her cagrida yeni servis doner
+     * (paylasilan altyapi singleton'lari ile).
+     */
     static class ServiceFactory {
-        // Shared dependencies
-        private final ILogger logger = new ConsoleLogger();
-        private final IDatabase database = new MySqlDatabase();
-        private final IEmailSender emailSender = new SmtpEmailSender();
+        private volatile Map<Class<?>, Registration<?>> registrations = Map.of();
+        private final Object constructionLock = new Object();
+
+        public ServiceFactory() {
+            register(ILogger.class, Lifetime.SINGLETON, f -> new ConsoleLogger());
+            register(IDatabase.class, Lifetime.SINGLETON, f -> new MySqlDatabase());
+            register(IEmailSender.class, Lifetime.SINGLETON, f -> new SmtpEmailSender());
+            register(ICache.class, Lifetime.SINGLETON, f -> new InMemoryCache());
+            register(UserService.class, Lifetime.SINGLETON, ServiceFactory::newUserService);
+            register(OrderService.class, Lifetime.SINGLETON, ServiceFactory::newOrderService);
+            register(ReportService.class, Lifetime.SINGLETON, ServiceFactory::newReportService);
+            register(ApplicationService.class, Lifetime.SINGLETON,
+                    f -> new ApplicationService.Builder().withFactory(f).build());
+        }
+
+        /**
+         * Kaydi ekler veya degistirir (orn. testte mock, farkli yasam suresi).
+         * Onceden kurulmus singleton'lar eski bagimliligi tutmaya devam eder.
+         */
+        public synchronized <T> void register(Class<T> type, Lifetime lifetime,
+                Function<ServiceFactory, ? extends T> recipe) {
+            Map<Class<?>, Registration<?>> next = new HashMap<>(registrations);
+            next.put(type, new Registration<>(type, lifetime, recipe));
+            registrations = Map.copyOf(next);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T get(Class<T> type) {
+            Registration<?> registration = registrations.get(type);
+            if (registration == null) {
+                throw new IllegalStateException("Kayitli degil: " + type.getName());
+            }
+            return (T) registration.get(this);
+        }
+
+        /**
+         * Tum singleton'lari simdi kurar (bagimliliklari tarif sirasinda
+         * ozyinelemeli olarak); ilk istek kurulum maliyeti odemez.
+         * Yeni kurulan singleton sayisini doner.
+         */
+        public int warmUp() {
+            int built = 0;
+            for (Registration<?> registration : registrations.values()) {
+                if (registration.lifetime == Lifetime.SINGLETON && registration.instance == null) {
+                    built++; // Baska bir tarifin bagimliligi olarak once kurulabilir; yine de yeni sayilir
+                }
+            }
+            for (Registration<?> registration : registrations.values()) {
+                if (registration.lifetime == Lifetime.SINGLETON) {
+                    registration.get(this);
+                }
+            }
+            return built;
+        }
+
+        /**
+         * Cagiran thread'in PER_THREAD instance'larini birakir. Thread havuzunda
+         * ThreadLocal degerleri thread ile birlikte yasar; is bitince cagrilmazsa
+         * sonraki is eski servisi gorur ve instance'lar hic toplanmaz.
+         */
+        public void releaseThread() {
+            for (Registration<?> registration : registrations.values()) {
+                registration.releaseThread();
+            }
+        }
 
         public UserService createUserService() {
-            return new UserService(logger, database);
+            return newUserService(this);
         }
 
         public OrderService createOrderService() {
-            return new OrderService(logger, emailSender);
+            return newOrderService(this);
         }
 
         public ReportService createReportService() {
-            return new ReportService(logger, database);
+            return newReportService(this);
+        }
+
+        private static UserService newUserService(ServiceFactory f) {
+            return new UserService(f.get(ILogger.class), f.get(IDatabase.class));
+        }
+
+        private static OrderService newOrderService(ServiceFactory f) {
+            return new OrderService(f.get(ILogger.class), f.get(IEmailSender.class));
+        }
+
+        private static ReportService newReportService(ServiceFactory f) {
+            return new ReportService(f.get(ILogger.class), f.get(IDatabase.class));
+        }
+    }
+
+    static final class Registration<T> {
+        final Class<T> type;
+        final Lifetime lifetime;
+        private final Function<ServiceFactory, ? extends T> recipe;
+        private final ThreadLocal<T> perThread;
+        private volatile T instance;
+        private boolean constructing; // Fabrikanin kurulum kilidi altinda: dongusel bagimlilik tespiti
+
+        Registration(Class<T> type, Lifetime lifetime, Function<ServiceFactory, ? extends T> recipe) {
+            this.type = type;
+            this.lifetime = lifetime;
+            this.recipe = recipe;
+            this.perThread = lifetime == Lifetime.PER_THREAD ? new ThreadLocal<>() : null;
+        }
+
+        T get(ServiceFactory factory) {
+            switch (lifetime) {
+                case SINGLETON -> {
+                    T existing = instance;
+                    return existing != null ? existing : construct(factory);
+                }
+                case PER_THREAD -> {
+                    T existing = perThread.get();
+                    if (existing == null) {
+                        existing = recipe.apply(factory);
+                        perThread.set(existing);
+                    }
+                    return existing;
+                }
+                default -> {
+                    return recipe.apply(factory);
+                }
+            }
+        }
+
+        void releaseThread() {
+            if (perThread != null) {
+                perThread.remove();
+            }
+        }
+
+        private T construct(ServiceFactory factory) {
+            synchronized (factory.constructionLock) {
+                if (instance != null) {
+                    return instance;
+                }
+                // Kilit tek ve reentrant: burada true ise ayni thread kendi kurulumuna dondu
+                if (constructing) {
+                    throw new IllegalStateException("Dongusel bagimlilik: " + type.getName());
+                }
+                constructing = true;
+                try {
+                    T created = recipe.apply(factory);
+                    instance = created;
+                    return created;
+                } finally {
+                    constructing = false;
+                }
+            }
         }
     }
 
@@ -145,6 +340,7 @@ public class DIWithoutFramework {
             private ILogger logger;
             private IDatabase database;
             private ICache cache;
+            private ServiceFactory factory;
 
             public Builder withLogger(ILogger logger) {
                 this.logger = logger;
@@ -161,7 +357,21 @@ public class DIWithoutFramework {
                 return this;
             }
 
+            // Verilmeyen bagimliliklar her build'de yeniden olusturulmaz, fabrikadan paylasilir
+            public Builder withFactory(ServiceFactory factory) {
+                this.factory = factory;
+                return this;
+            }
+
             public ApplicationService build() {
+                if (factory != null) {
+                    if (logger == null)
+                        logger = factory.get(ILogger.class);
+                    if (database == null)
+                        database = factory.get(IDatabase.class);
+                    if (cache == null)
+                        cache = factory.get(ICache.class);
+                }
                 if (logger == null)
                     logger = new ConsoleLogger();
                 if (database == null)
@@ -275,8 +485,24 @@ public class DIWithoutFramework {
     }
 
     static class MySqlDatabase implements IDatabase {
+        private final DurableStore durable; // null = kayitlar saklanmaz
+        private final AtomicLong nextId; // Eszamanli save'ler ayni ID'yi almasin
+
+        MySqlDatabase() {
+            this(null);
+        }
+
+        // Gercek MySQL yerine yerel write-ahead log
+        MySqlDatabase(DurableStore durable) {
+            this.durable = durable;
+            this.nextId = new AtomicLong(durable != null ? durable.nextSequence("ID-") : 0);
+        }
+
         @Override
         public void save(String data) {
+            if (durable != null) {
+                durable.put("ID-" + nextId.getAndIncrement(), data);
+            }
             System.out.println("   [MySQL] Kaydedildi: " + data);
         }
 
@@ -293,17 +519,17 @@ public class DIWithoutFramework {
         }
     }
 
-    static class InMemoryCache implements ICache {
-        private final Map<String, String> cache = new HashMap<>();
-
+    static class InMemoryCache extends BoundedStringCache implements ICache {
         @Override
-        public void put(String key, String value) {
-            cache.put(key, value);
+        public String get(String key) {
+            return getOrDefault(key, "N/A");
         }
+    }
 
+    static class OffHeapCache extends OffHeapStringCache implements ICache {
         @Override
         public String get(String key) {
-            return cache.getOrDefault(key, "N/A");
+            return getOrDefault(key, "N/A");
         }
     }
 
@@ -0,0 +1,81 @@
+package com.fundamentals.di;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SERVIS FABRIKASI OLCUMU
+ *
+ * DIWithoutFramework.ServiceFactory: her istekte graf ve memoize.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.DIWithoutFrameworkBenchmark"
+ */
+public class DIWithoutFrameworkBenchmark {
+
+    public static void main(String[] args) {
+        serviceFactory();
+    }
+
+    // ==========================================
+    // 22. SERVIS FABRIKASI: HER ISTEKTE GRAF vs MEMOIZE
+    // ==========================================
+
+    /**
+     * Istek dongusu: her istek UserService, OrderService ve ApplicationService
+     * ister. Karsilastirma:
+     * - Eski: createXxxService() + her istekte ApplicationService.Builder ile
+     *   yeni logger/veritabani/cache (DIWithoutFramework bolum 3'teki gibi)
+     * - createXxx + Builder.withFactory: altyapi paylasilir, servisler yeni
+     * - get(): warmUp sonrasi memoize edilmis singleton'lar
+     * Ayrica ilk istegin gecikmesi: warmUp ile ve warmUp olmadan.
+     */
+    static void serviceFactory() {
+        System.out.println("\n22. SERVIS FABRIKASI: HER ISTEKTE GRAF vs MEMOIZE");
+        System.out.println("-".repeat(40));
+
+        DIWithoutFramework.ServiceFactory factory = new DIWithoutFramework.ServiceFactory();
+        factory.warmUp();
+
+        Map<String, Runnable> requests = new LinkedHashMap<>();
+        requests.put("Eski: yeni graf", () -> handleRequest(factory.createUserService(), factory.createOrderService(),
+                new DIWithoutFramework.ApplicationService.Builder()
+                        .withLogger(new DIWithoutFramework.ConsoleLogger())
+                        .withDatabase(new DIWithoutFramework.MySqlDatabase())
+                        .withCache(new DIWithoutFramework.InMemoryCache())
+                        .build()));
+        requests.put("createXxx + withFactory", () -> handleRequest(factory.createUserService(),
+                factory.createOrderService(),
+                new DIWithoutFramework.ApplicationService.Builder().withFactory(factory).build()));
+        requests.put("get() (memoize)", () -> handleRequest(factory.get(DIWithoutFramework.UserService.class),
+                factory.get(DIWithoutFramework.OrderService.class),
+                factory.get(DIWithoutFramework.ApplicationService.class)));
+
+        System.out.printf("   %-26s %14s %14s %12s%n", "Istek", "1 thread/s", "4 thread/s", "B/istek");
+        for (Map.Entry<String, Runnable> request : requests.entrySet()) {
+            double single = DIBenchmarks.throughput(1, request.getValue());
+            double multi = DIBenchmarks.throughput(4, request.getValue());
+            System.out.printf("   %-26s %,14.0f %,14.0f %,12.0f%n", request.getKey(), single, multi,
+                    DIBenchmarks.allocatedBytesPerOp(request.getValue()));
+        }
+
+        for (boolean warm : new boolean[] { false, true }) {
+            DIWithoutFramework.ServiceFactory fresh = new DIWithoutFramework.ServiceFactory();
+            if (warm) {
+                fresh.warmUp();
+            }
+            long start = System.nanoTime();
+            DIBenchmarks.blackhole = fresh.get(DIWithoutFramework.ApplicationService.class);
+            System.out.printf("   Ilk istek %-14s %8.1f us%n", warm ? "(warmUp ile):" : "(warmUp yok):",
+                    (System.nanoTime() - start) / 1e3);
+        }
+    }
+
+    // Servisleri kullanan kucuk is: cikti basmadan
+    private static void handleRequest(DIWithoutFramework.UserService users, DIWithoutFramework.OrderService orders,
+            DIWithoutFramework.ApplicationService app) {
+        DIBenchmarks.blackhole = users;
+        DIBenchmarks.blackhole = orders;
+        DIBenchmarks.blackhole = app;
+    }
+}
@@ -0,0 +1,801 @@
+package com.fundamentals.di;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * WRITE-AHEAD LOG ILE KALICI ANAHTAR/DEGER DEPOSU
+ *
+ * Veri bellekte (ConcurrentHashMap) tutulur; her degisiklik once diske,
+ * sadece sona eklenen log dosyasina yazilir. Yeniden baslatmada son
+ * snapshot yuklenir ve ondan sonraki log kayitlari tekrar oynatilir.
+ *
+ * Dizin yapisi:
+ * - wal-N.log:      segmentler, kayit = [uzunluk][crc32][tip][anahtar][deger]
+ * - snapshot-N.dat: N numarali segment dahil tum degisiklikleri iceren tam kopya
+ *
+ * fsync politikalari (FsyncPolicy):
+ * - ALWAYS:   her yazma kendi fsync'ini kilit altinda yapar (en yavas)
+ * - GROUP:    group commit; yazan thread kaydi diske ulasana kadar bekler,
+ *             ama ayni anda bekleyenlerin hepsi tek fsync ile onaylanir
+ * - INTERVAL: arka planda belirli araliklarla fsync; cokmede son aralik kaybolabilir
+ * - NEVER:    isletim sistemine birakilir (sadece close'da fsync)
+ *
+ * Snapshot yazarlari durdurmaz: once yeni segmente gecilir, sonra harita
+ * gezilir. Gezinti sirasinda yeni segmente yazilan kayitlar snapshot'a
+ * yarim girebilir; kurtarmada o segment bastan oynatildigi icin (put/remove
+ * sirayla tekrar uygulaninca ayni sonuc) durum yine dogru olur.
+ *
+ * Kurtarmada yarim yazilmis son kayit (uzunluk/crc tutmaz) atilir ve
+ * segment o noktadan kesilir.
+ *
+ * Yazma yolunda (write/fsync) IOException olursa yarim kayit segmentten
+ * kesilir ve depo "bozuk" isaretlenir: sonraki yazmalar reddedilir. Aksi
+ * halde sonraki (onaylanmis) kayitlar bozuk byte'larin arkasina yazilir ve
+ * kurtarmada onlarla birlikte atilirdi. Group commit fsync'i basarisiz
+ * olursa son basarili fsync'ten sonraki tum kayitlar kesilir ve onlari
+ * bekleyen her yazan hata alir (tekrar fsync denenip basari donulmez).
+ * Okumalar devam eder; depo yeniden acilarak (kurtarma ile) kullanilmaya
+ * devam edilir.
+ */
+public final class DurableStore implements AutoCloseable {
+
+    public enum FsyncPolicy {
+        ALWAYS, GROUP, INTERVAL, NEVER
+    }
+
+    private static final int RECORD_HEADER = 8; // uzunluk + crc32
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final int SNAPSHOT_MAGIC = 0x44535331; // "DSS1"
+    private static final int SNAPSHOT_END = -1;
+
+    private final Path directory;
+    private final FsyncPolicy policy;
+    private final long segmentBytes;
+    private final long snapshotEveryBytes;
+    private final Map<String, String> data = new ConcurrentHashMap<>();
+
+    // Yazma sirasi: kayit log'a ve haritaya bu kilit altinda ayni sirayla girer
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private long segment;
+    private long segmentSize;
+    private long bytesSinceSnapshot;
+    private volatile long appendedPosition; // tum segmentler boyunca yazilan toplam byte
+
+    // Group commit: syncMonitor altinda
+    private final Object syncMonitor = new Object();
+    private FileChannel channel;
+    private long syncedPosition;
+    private boolean syncing;
+    private boolean syncFailed; // Bir fsync basarisiz oldu: syncedPosition sonrasi onaylanmadi
+
+    private final Object snapshotLock = new Object();
+    private final AtomicBoolean snapshotScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService background;
+    private volatile boolean closed;
+    private volatile IOException failure; // Ilk yazma hatasi; sonrasinda yazma yok
+
+    private final LongAdder records = new LongAdder();
+    private final LongAdder fsyncs = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private final RecoveryStats recovery;
+
+    private DurableStore(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.policy = builder.policy;
+        this.segmentBytes = builder.segmentBytes;
+        this.snapshotEveryBytes = builder.snapshotEveryBytes;
+
+        Files.createDirectories(directory);
+        this.recovery = recover();
+        this.channel = openSegment(segment);
+
+        this.background = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "wal-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (policy == FsyncPolicy.INTERVAL) {
+            long interval = builder.fsyncInterval.toNanos();
+            background.scheduleWithFixedDelay(() -> awaitDurable(appendedPosition), interval, interval,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ==========================================
+    // OKUMA / YAZMA
+    // ==========================================
+
+    public String get(String key) {
+        return data.get(key);
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * prefix + sayi biciminde anahtarlar icin siradaki sayi (en buyuk + 1, hic
+     * yoksa 0). Yeniden acilista ID sayacini kurtarilan anahtarlardan baslatmak
+     * icin; size() kullanmak silinen kayitlardan sonra ayni ID'yi tekrar verir.
+     */
+    public long nextSequence(String prefix) {
+        long next = 0;
+        for (String key : data.keySet()) {
+            if (key.startsWith(prefix)) {
+                try {
+                    next = Math.max(next, Long.parseLong(key, prefix.length(), key.length(), 10) + 1);
+                } catch (NumberFormatException e) {
+                    // Ayni onekli baska bir anahtar
+                }
+            }
+        }
+        return next;
+    }
+
+    public void put(String key, String value) {
+        append(PUT, key, value);
+    }
+
+    public void remove(String key) {
+        append(REMOVE, key, null);
+    }
+
+    private void append(byte type, String key, String value) {
+        ByteBuffer record = encode(type, key, value);
+        int length = record.remaining();
+        long end;
+        boolean snapshotDue = false;
+
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Depo kapali: " + directory);
+            }
+            checkHealthy();
+            if (segmentSize > 0 && segmentSize + length > segmentBytes) {
+                rollSegment();
+            }
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (policy == FsyncPolicy.ALWAYS) {
+                channel.force(false);
+                fsyncs.increment();
+            }
+            segmentSize += length;
+            end = appendedPosition + length;
+            appendedPosition = end;
+            if (type == PUT) {
+                data.put(key, value);
+            } else {
+                data.remove(key);
+            }
+            bytesSinceSnapshot += length;
+            if (snapshotEveryBytes > 0 && bytesSinceSnapshot >= snapshotEveryBytes) {
+                bytesSinceSnapshot = 0;
+                snapshotDue = true;
+            }
+        } catch (IOException e) {
+            fail(e);
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+        records.increment();
+
+        if (policy == FsyncPolicy.GROUP) {
+            awaitDurable(end);
+        }
+        if (snapshotDue && snapshotScheduled.compareAndSet(false, true)) {
+            background.execute(this::backgroundSnapshot);
+        }
+    }
+
+    private void checkHealthy() {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Depo yazma hatasi sonrasi salt okunur: " + directory, cause);
+        }
+    }
+
+    /**
+     * appendLock altinda. Segment son saglam kayittan kesilir: yarim yazilan
+     * veya fsync'i basarisiz olan (cagirana hata donen) kayit kurtarmada geri
+     * gelmez. Kesme de basarisiz olursa kurtarma CRC ile yarim kaydi atar.
+     */
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        try {
+            if (channel.size() > segmentSize) {
+                channel.truncate(segmentSize);
+            }
+        } catch (IOException suppressed) {
+            e.addSuppressed(suppressed);
+        }
+    }
+
+    /**
+     * appendLock altinda, fsync hatasindan sonra. Son basarili fsync'ten
+     * sonra yazilan kayitlarin hicbiri onaylanmadi (yazanlari hata aldi);
+     * segment o noktadan kesilir, kurtarmada geri gelmezler. Bellekteki
+     * haritada depo yeniden acilana kadar gorunur kalirlar.
+     */
+    private void failUnsynced(IOException e) {
+        long synced;
+        synchronized (syncMonitor) {
+            synced = syncedPosition;
+        }
+        long segmentStart = appendedPosition - segmentSize;
+        segmentSize = Math.max(0, synced - segmentStart);
+        appendedPosition = segmentStart + segmentSize; // Tekrar cagrilirsa ayni noktadan keser
+        fail(e);
+    }
+
+    private static ByteBuffer encode(byte type, String key, String value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        int payload = 1 + 4 + keyBytes.length + (valueBytes == null ? 0 : 4 + valueBytes.length);
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + payload);
+        buffer.putInt(payload).putInt(0).put(type).putInt(keyBytes.length).put(keyBytes);
+        if (valueBytes != null) {
+            buffer.putInt(valueBytes.length).put(valueBytes);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER, payload);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    // ==========================================
+    // GROUP COMMIT
+    // ==========================================
+
+    /**
+     * position'a kadar yazilan her sey diske inene kadar bekler. fsync
+     * yapan yoksa cagiran lider olur ve o ana kadar yazilan her seyi tek
+     * fsync ile onaylar; digerleri sonucu bekler.
+     */
+    private void awaitDurable(long position) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                FileChannel target;
+                long upTo;
+                synchronized (syncMonitor) {
+                    if (syncedPosition >= position) {
+                        return;
+                    }
+                    // Lider fsync'te hata aldiysa bu kayit onun grubundaydi: diske indi sayilamaz
+                    checkHealthy();
+                    if (closed && channel == null) {
+                        return;
+                    }
+                    if (syncing) {
+                        try {
+                            syncMonitor.wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                        continue;
+                    }
+                    syncing = true;
+                    target = channel;
+                    upTo = appendedPosition;
+                }
+
+                IOException error = null;
+                try {
+                    target.force(false);
+                    fsyncs.increment();
+                } catch (IOException e) {
+                    // fsync hatasindan sonra sayfa cache'indeki veriye guvenilemez; bekleyenler
+                    // uyandiginda hatayi gormeli, tekrar fsync deneyip basari donmemeli
+                    error = e;
+                    if (failure == null) {
+                        failure = e;
+                    }
+                } finally {
+                    synchronized (syncMonitor) {
+                        syncing = false;
+                        if (error == null) {
+                            syncedPosition = Math.max(syncedPosition, upTo);
+                        } else {
+                            syncFailed = true;
+                        }
+                        syncMonitor.notifyAll();
+                    }
+                }
+                if (error != null) {
+                    // Kilit sirasi appendLock -> syncMonitor: syncing birakildiktan sonra alinir
+                    appendLock.lock();
+                    try {
+                        if (channel != null) {
+                            failUnsynced(error);
+                        }
+                    } finally {
+                        appendLock.unlock();
+                    }
+                    throw new UncheckedIOException(error);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * appendLock altinda. Devam eden fsync bitene kadar beklenir; eski
+     * segment kapatilmadan once diske indirilir.
+     */
+    private void rollSegment() throws IOException {
+        FileChannel next = openSegment(segment + 1);
+        synchronized (syncMonitor) {
+            boolean interrupted = false;
+            while (syncing) {
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                // Beklenen fsync basarisiz oldu: onaylanmamis kuyruk eski segmentte kesilecek
+                next.close();
+                checkHealthy();
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                next.close();
+                throw e;
+            }
+            fsyncs.increment();
+            channel.close();
+            channel = next;
+            syncedPosition = appendedPosition;
+            syncMonitor.notifyAll();
+        }
+        segment++;
+        segmentSize = 0;
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // ==========================================
+    // SNAPSHOT
+    // ==========================================
+
+    /**
+     * Guncel durumu snapshot-N.dat olarak yazar; N ve oncesindeki segmentler
+     * ile eski snapshot'lar silinir. Yazmalar bu sirada devam eder.
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            long covered;
+            appendLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                checkHealthy();
+                if (segmentSize > 0) {
+                    try {
+                        rollSegment();
+                    } catch (IOException e) {
+                        fail(e);
+                        throw e;
+                    }
+                }
+                covered = segment - 1;
+                bytesSinceSnapshot = 0;
+            } finally {
+                appendLock.unlock();
+            }
+
+            Path temp = directory.resolve("snapshot.tmp");
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                    CheckedOutputStream checked = new CheckedOutputStream(
+                            new BufferedOutputStream(file, 1 << 16), new CRC32());
+                    DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(covered);
+                for (Map.Entry<String, String> entry : data.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                }
+                out.writeInt(SNAPSHOT_END);
+                out.writeLong(checked.getChecksum().getValue());
+                out.flush();
+                file.getFD().sync();
+            }
+            Files.move(temp, snapshotPath(covered), StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory();
+            snapshots.increment();
+
+            for (Path path : listFiles()) {
+                long number = fileNumber(path);
+                boolean oldSnapshot = isSnapshot(path) && number < covered;
+                boolean coveredSegment = isSegment(path) && number <= covered;
+                if (oldSnapshot || coveredSegment) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private void backgroundSnapshot() {
+        snapshotScheduled.set(false);
+        if (failure != null) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (IOException e) {
+            // Log dosyalari duruyor; bir sonraki esikte tekrar denenir
+            System.err.println("   [WAL] Snapshot basarisiz: " + e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Yeniden adlandirmanin kendisini kalici yapmak icin (Linux)
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Bazi platformlarda dizin acilamaz; dosyalarin kendisi zaten fsync'li
+        }
+    }
+
+    // ==========================================
+    // KURTARMA
+    // ==========================================
+
+    private RecoveryStats recover() throws IOException {
+        long start = System.nanoTime();
+        List<Path> files = listFiles();
+
+        long covered = -1;
+        long snapshotEntries = 0;
+        for (int i = files.size() - 1; i >= 0; i--) {
+            Path path = files.get(i);
+            if (isSnapshot(path)) {
+                long loaded = loadSnapshot(path);
+                if (loaded >= 0) {
+                    covered = fileNumber(path);
+                    snapshotEntries = loaded;
+                    break;
+                }
+                data.clear(); // Bozuk snapshot; bir oncekine bak
+            }
+        }
+
+        long replayed = 0;
+        long replayedBytes = 0;
+        long truncatedBytes = 0;
+        long lastSegment = covered;
+        for (Path path : files) {
+            if (!isSegment(path)) {
+                continue;
+            }
+            long number = fileNumber(path);
+            lastSegment = Math.max(lastSegment, number);
+            if (number <= covered) {
+                Files.deleteIfExists(path); // Snapshot'tan sonra silinememis
+                continue;
+            }
+            long[] result = replaySegment(path);
+            replayed += result[0];
+            replayedBytes += result[1];
+            truncatedBytes += result[2];
+        }
+
+        // Kurtarmadan sonra her zaman yeni bir segmente yazilir
+        segment = lastSegment + 1;
+        return new RecoveryStats(snapshotEntries, replayed, replayedBytes, truncatedBytes,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Yuklenen giris sayisi; bozuksa -1
+    private long loadSnapshot(Path path) throws IOException {
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(new FileInputStream(path.toFile()), 1 << 16), new CRC32());
+                DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                return -1;
+            }
+            in.readLong();
+            long entries = 0;
+            int keyLength;
+            while ((keyLength = in.readInt()) != SNAPSHOT_END) {
+                String key = readString(in, keyLength);
+                data.put(key, readString(in, in.readInt()));
+                entries++;
+            }
+            long expected = checked.getChecksum().getValue();
+            return in.readLong() == expected ? entries : -1;
+        } catch (EOFException | NegativeArraySizeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Segmenti sirayla oynatir: {kayit, byte, kesilen byte}. Ilk bozuk
+     * kayitta durur ve dosyayi son saglam kayittan keser.
+     */
+    private long[] replaySegment(Path path) throws IOException {
+        long replayed = 0;
+        long valid = 0;
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long fileSize = file.size();
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 22).limit(0);
+            CRC32 crc = new CRC32();
+
+            while (true) {
+                if (buffer.remaining() < RECORD_HEADER) {
+                    if (!fill(file, buffer)) {
+                        break;
+                    }
+                    continue;
+                }
+                int position = buffer.position();
+                int payload = buffer.getInt(position);
+                if (payload <= 0 || valid + RECORD_HEADER + payload > fileSize) {
+                    break; // Yarim yazilmis kayit
+                }
+                if (buffer.remaining() < RECORD_HEADER + payload) {
+                    if (buffer.capacity() < RECORD_HEADER + payload) {
+                        ByteBuffer larger = ByteBuffer.allocate(RECORD_HEADER + payload);
+                        larger.put(buffer).flip();
+                        buffer = larger;
+                    }
+                    if (!fill(file, buffer)) {
+                        break;
+                    }
+                    continue;
+                }
+
+                byte[] array = buffer.array();
+                int payloadOffset = position + RECORD_HEADER;
+                crc.reset();
+                crc.update(array, payloadOffset, payload);
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+                apply(buffer, payloadOffset);
+                buffer.position(payloadOffset + payload);
+                valid += RECORD_HEADER + payload;
+                replayed++;
+            }
+
+            if (valid < fileSize) {
+                file.truncate(valid);
+                file.force(true);
+            }
+            return new long[] { replayed, valid, fileSize - valid };
+        }
+    }
+
+    // Okunmamis byte'lari basa alip dosyadan doldurur; yeni veri yoksa false
+    private static boolean fill(FileChannel file, ByteBuffer buffer) throws IOException {
+        buffer.compact();
+        int read = file.read(buffer);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private void apply(ByteBuffer buffer, int offset) {
+        byte[] array = buffer.array();
+        byte type = array[offset];
+        int keyLength = buffer.getInt(offset + 1);
+        String key = new String(array, offset + 5, keyLength, StandardCharsets.UTF_8);
+        if (type == PUT) {
+            int valueOffset = offset + 5 + keyLength;
+            int valueLength = buffer.getInt(valueOffset);
+            data.put(key, new String(array, valueOffset + 4, valueLength, StandardCharsets.UTF_8));
+        } else {
+            data.remove(key);
+        }
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            List<Path> files = new ArrayList<>();
+            stream.filter(p -> isSegment(p) || isSnapshot(p)).forEach(files::add);
+            files.sort((a, b) -> Long.compare(fileNumber(a), fileNumber(b)));
+            return files;
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("wal-%016d.log", number));
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve(String.format("snapshot-%016d.dat", number));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith("wal-") && name.endsWith(".log");
+    }
+
+    private static boolean isSnapshot(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith("snapshot-") && name.endsWith(".dat");
+    }
+
+    private static long fileNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(name.indexOf('-') + 1, name.lastIndexOf('.')));
+    }
+
+    // ==========================================
+    // ISTATISTIK / KAPATMA
+    // ==========================================
+
+    public Stats stats() {
+        return new Stats(records.sum(), fsyncs.sum(), snapshots.sum(), appendedPosition);
+    }
+
+    public RecoveryStats recoveryStats() {
+        return recovery;
+    }
+
+    /**
+     * records/fsyncs orani group commit'in kac yazmayi tek fsync'te topladigini gosterir.
+     */
+    public record Stats(long records, long fsyncs, long snapshots, long appendedBytes) {
+    }
+
+    public record RecoveryStats(long snapshotEntries, long replayedRecords, long replayedBytes,
+            long truncatedBytes, long millis) {
+    }
+
+    /**
+     * Bekleyen her sey diske indirilir; politika NEVER olsa bile.
+     */
+    @Override
+    public void close() throws IOException {
+        background.shutdown();
+        try {
+            background.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (snapshotLock) {
+            appendLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                synchronized (syncMonitor) {
+                    while (syncing) {
+                        try {
+                            syncMonitor.wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                    }
+                    if (syncFailed) {
+                        // Lider kesmeden once kapatiliyor: onaylanmamis kuyruk burada kesilir
+                        failUnsynced(failure);
+                    } else if (failure == null) {
+                        channel.force(false);
+                    }
+                    channel.close();
+                    channel = null;
+                    if (failure == null) {
+                        syncedPosition = appendedPosition;
+                    }
+                    syncMonitor.notifyAll();
+                }
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+
+    // ==========================================
+    // BUILDER
+    // ==========================================
+
+    public static class Builder {
+        private Path directory;
+        private FsyncPolicy policy = FsyncPolicy.GROUP;
+        private Duration fsyncInterval = Duration.ofMillis(10);
+        private long segmentBytes = 64L << 20;
+        private long snapshotEveryBytes;
+
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public Builder fsyncPolicy(FsyncPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        // Sadece INTERVAL politikasi icin
+        public Builder fsyncInterval(Duration interval) {
+            this.fsyncInterval = interval;
+            return this;
+        }
+
+        public Builder segmentBytes(long segmentBytes) {
+            this.segmentBytes = segmentBytes;
+            return this;
+        }
+
+        // Bu kadar log byte'i biriktiginde arka planda snapshot alinir (0 = kapali)
+        public Builder snapshotEveryBytes(long snapshotEveryBytes) {
+            this.snapshotEveryBytes = snapshotEveryBytes;
+            return this;
+        }
+
+        /**
+         * Dizindeki snapshot ve log'lardan durumu kurtarip depoyu acar.
+         */
+        public DurableStore open() throws IOException {
+            if (directory == null) {
+                throw new IllegalStateException("directory zorunlu");
+            }
+            return new DurableStore(this);
+        }
+    }
+}
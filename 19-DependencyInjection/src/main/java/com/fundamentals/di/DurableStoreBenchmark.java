@@ -0,0 +1,97 @@
+package com.fundamentals.di;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * WRITE-AHEAD LOG OLCUMU
+ *
+ * DurableStore: fsync politikalari ve kurtarma suresi.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.DurableStoreBenchmark"
+ */
+public class DurableStoreBenchmark {
+
+    public static void main(String[] args) {
+        writeAheadLog();
+    }
+
+    // ==========================================
+    // 16. WRITE-AHEAD LOG: FSYNC POLITIKASI VE KURTARMA
+    // ==========================================
+
+    static final long WAL_RECOVERY_BYTES = 1L << 30;
+
+    /**
+     * a) DurableStore'a 100 byte'lik put: fsync politikasi x yazan thread
+     *    sayisi; "Kayit/fsync" group commit'in kac yazmayi birlestirdigi
+     * b) ~1 GB log (1 KB deger, 100k anahtar) yazilip depo yeniden acilir:
+     *    once sadece log oynatma, sonra snapshot + kisa log
+     */
+    static void writeAheadLog() {
+        System.out.println("\n16. WRITE-AHEAD LOG: FSYNC POLITIKASI VE KURTARMA");
+        System.out.println("-".repeat(40));
+
+        String smallValue = "x".repeat(100);
+        System.out.printf("   %-10s %8s %14s %12s%n", "Politika", "Thread", "Yazma/s", "Kayit/fsync");
+        for (DurableStore.FsyncPolicy policy : DurableStore.FsyncPolicy.values()) {
+            for (int threads : new int[] { 1, 16 }) {
+                Path directory = null;
+                try {
+                    directory = Files.createTempDirectory("wal-bench");
+                    try (DurableStore store = new DurableStore.Builder().directory(directory).fsyncPolicy(policy)
+                            .open()) {
+                        double perSecond = DIBenchmarks.throughput(threads, () -> store.put(
+                                "k" + ThreadLocalRandom.current().nextInt(100_000), smallValue));
+                        DurableStore.Stats stats = store.stats();
+                        System.out.printf("   %-10s %8d %,14.0f %12s%n", policy, threads, perSecond,
+                                stats.fsyncs() == 0 ? "-" : String.format("%.1f", (double) stats.records() / stats.fsyncs()));
+                    }
+                } catch (IOException e) {
+                    System.out.println("   Hata: " + e.getMessage());
+                } finally {
+                    DIContainer.deleteDirectory(directory);
+                }
+            }
+        }
+
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("wal-recovery");
+            DurableStore.Builder builder = new DurableStore.Builder().directory(directory)
+                    .fsyncPolicy(DurableStore.FsyncPolicy.NEVER);
+            String largeValue = "y".repeat(1_000);
+            long start = System.nanoTime();
+            try (DurableStore store = builder.open()) {
+                for (int i = 0; store.stats().appendedBytes() < WAL_RECOVERY_BYTES; i++) {
+                    store.put("k" + (i % 100_000), largeValue);
+                }
+                System.out.printf("%n   %,d MB log yazildi: %,d ms%n", store.stats().appendedBytes() >> 20,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+
+            try (DurableStore store = builder.open()) {
+                DurableStore.RecoveryStats recovery = store.recoveryStats();
+                System.out.printf("   Log oynatma:       %,6d ms  (%,d kayit, %,.0f MB/s)%n", recovery.millis(),
+                        recovery.replayedRecords(), (recovery.replayedBytes() >> 20) / (recovery.millis() / 1000.0));
+                store.snapshot();
+                for (int i = 0; i < 10_000; i++) {
+                    store.put("k" + i, largeValue);
+                }
+            }
+
+            try (DurableStore store = builder.open()) {
+                DurableStore.RecoveryStats recovery = store.recoveryStats();
+                System.out.printf("   Snapshot + log:    %,6d ms  (%,d giris + %,d kayit)%n", recovery.millis(),
+                        recovery.snapshotEntries(), recovery.replayedRecords());
+            }
+        } catch (IOException e) {
+            System.out.println("   Hata: " + e.getMessage());
+        } finally {
+            DIContainer.deleteDirectory(directory);
+        }
+    }
+}
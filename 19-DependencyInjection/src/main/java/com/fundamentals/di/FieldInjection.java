@@ -1,6 +1,7 @@
 package com.fundamentals.di;
 
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 /**
  * FIELD INJECTION
@@ -166,7 +167,8 @@ public class FieldInjection {
         SimpleInjector injector = new SimpleInjector();
 
         // Dependency'leri kaydet
-        injector.register(IPaymentGateway.class, new StripeGateway());
+        IdempotencyStore<Void> store = new IdempotencyStore.Builder<Void>().maximumKeys(10_000).build();
+        injector.register(IPaymentGateway.class, IPaymentGateway.idempotent(new StripeGateway(), store));
         injector.register(INotificationService.class, new EmailNotificationService());
 
         // Servis olustur ve inject et
@@ -174,7 +176,16 @@ public class FieldInjection {
 
         if (paymentService != null) {
             paymentService.processPayment(100.0);
+            // Istemci tekrari: gateway bir kez odeme alir
+            paymentService.processPayment("odeme-7", 75.0);
+            paymentService.processPayment("odeme-7", 75.0);
         }
+
+        // InjectorProcessor derleme sirasinda PaymentService icin injector uretir
+        boolean generated = SimpleInjector.INJECTORS.find(PaymentService.class).isPresent();
+        System.out.println("\n   Uretilmis injector: "
+                + (generated ? SimpleInjector.INJECTORS.injectorName(PaymentService.class) : "yok (reflection)"));
+        System.out.println("   Derleme zamani kod uretimi: reflection yok, Dagger gibi.");
     }
 
     // Custom @Inject annotation
@@ -185,6 +196,27 @@ public class FieldInjection {
 
     interface IPaymentGateway {
         void charge(double amount);
+
+        default void charge(String idempotencyKey, double amount) {
+            charge(amount);
+        }
+
+        // Anahtarli cagrilari store uzerinden gecirir (bkz. IdempotentGateway)
+        static IPaymentGateway idempotent(IPaymentGateway delegate, IdempotencyStore<Void> store) {
+            IdempotentGateway<IPaymentGateway> guard =
+                    new IdempotentGateway<>(delegate, IPaymentGateway::charge, store);
+            return new IPaymentGateway() {
+                @Override
+                public void charge(double amount) {
+                    guard.pay(amount);
+                }
+
+                @Override
+                public void charge(String idempotencyKey, double amount) {
+                    guard.pay(idempotencyKey, amount);
+                }
+            };
+        }
     }
 
     interface INotificationService {
@@ -218,11 +250,33 @@ public class FieldInjection {
             if (notificationService != null)
                 notificationService.notify("Odeme alindi: $" + amount);
         }
+
+        public void processPayment(String idempotencyKey, double amount) {
+            if (paymentGateway != null)
+                paymentGateway.charge(idempotencyKey, amount);
+            if (notificationService != null)
+                notificationService.notify("Odeme alindi: $" + amount + " (" + idempotencyKey + ")");
+        }
     }
 
     // Basit DI Container (Annotation tabanli)
     static class SimpleInjector {
+        // Sadece FieldInjection.Inject icin uretilmis injector'lar
+        static final InjectorRegistry INJECTORS = new InjectorRegistry(Inject.class);
+
         private final java.util.Map<Class<?>, Object> registry = new java.util.HashMap<>();
+        // Uretilmis injector da reflection yolu gibi her atamayi loglar
+        private final GeneratedInjector.DependencySource source = new GeneratedInjector.DependencySource() {
+            @Override
+            public Object get(Class<?> type, String qualifier) {
+                return registry.get(type);
+            }
+
+            @Override
+            public void injected(String field) {
+                System.out.println("   [Injector] " + field + " inject edildi");
+            }
+        };
 
         public <T> void register(Class<T> type, T implementation) {
             registry.put(type, implementation);
@@ -230,7 +284,18 @@ public class FieldInjection {
 
         @SuppressWarnings("unchecked")
         public <T> T createAndInject(Class<T> clazz) {
+            // Iki yolda da hata ayni sekilde ele alinir: log + null
             try {
+                // Derleme zamaninda uretilmis injector varsa reflection kullanilmaz
+                Optional<GeneratedInjector<T>> generated = INJECTORS.find(clazz);
+                if (generated.isPresent()) {
+                    GeneratedInjector<T> injector = generated.get();
+                    T instance = injector.create();
+                    injector.inject(instance, source);
+                    return instance;
+                }
+
+                // Yoksa: reflection ile field tarama
                 T instance = clazz.getDeclaredConstructor().newInstance();
 
                 // @Inject ile isaretli field'lari bul
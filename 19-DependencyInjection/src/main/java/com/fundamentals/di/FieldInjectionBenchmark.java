@@ -0,0 +1,78 @@
+package com.fundamentals.di;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * FIELD INJECTION OLCUMU
+ *
+ * @Inject field'li siniflarda reflection ile InjectorProcessor'un
+ * urettigi injector.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.FieldInjectionBenchmark"
+ */
+public class FieldInjectionBenchmark {
+
+    public static void main(String[] args) {
+        reflectiveVsGeneratedFieldInjection();
+    }
+
+    // ==========================================
+    // 3. REFLECTION vs URETILMIS FIELD INJECTOR
+    // ==========================================
+
+    /**
+     * @Inject field'li FieldInjection.PaymentService icin:
+     * - Her nesnede getDeclaredFields + setAccessible + Field.set
+     * - InjectorProcessor'un derleme zamaninda urettigi injector
+     */
+    static void reflectiveVsGeneratedFieldInjection() {
+        System.out.println("\n3. REFLECTION vs URETILMIS FIELD INJECTOR");
+        System.out.println("-".repeat(40));
+
+        Map<Class<?>, Object> registry = Map.of(
+                FieldInjection.IPaymentGateway.class, new FieldInjection.StripeGateway(),
+                FieldInjection.INotificationService.class, new FieldInjection.EmailNotificationService());
+
+        Optional<GeneratedInjector<FieldInjection.PaymentService>> found =
+                FieldInjection.SimpleInjector.INJECTORS.find(FieldInjection.PaymentService.class);
+        if (found.isEmpty()) {
+            System.out.println("   Uretilmis injector yok - InjectorProcessor ile derleyin.");
+            return;
+        }
+        // SimpleInjector'in uretilmis yolu (log satirlari olmadan)
+        GeneratedInjector<FieldInjection.PaymentService> injector = found.get();
+        GeneratedInjector.DependencySource source = (type, qualifier) -> registry.get(type);
+
+        double reflective = DIBenchmarks.throughput(1,
+                () -> reflectiveInject(FieldInjection.PaymentService.class, registry));
+        double generated = DIBenchmarks.throughput(1, () -> {
+            FieldInjection.PaymentService instance = injector.create();
+            injector.inject(instance, source);
+            DIBenchmarks.blackhole = instance;
+        });
+
+        System.out.printf("   %-22s %,15.0f ops/s%n", "Reflection", reflective);
+        System.out.printf("   %-22s %,15.0f ops/s%n", "Uretilmis injector", generated);
+    }
+
+    // SimpleInjector'in reflection yolu (log satirlari olmadan)
+    static <T> T reflectiveInject(Class<T> clazz, Map<Class<?>, Object> registry) {
+        try {
+            T instance = clazz.getDeclaredConstructor().newInstance();
+            for (java.lang.reflect.Field field : clazz.getDeclaredFields()) {
+                if (field.isAnnotationPresent(FieldInjection.Inject.class)) {
+                    Object dependency = registry.get(field.getType());
+                    if (dependency != null) {
+                        field.setAccessible(true);
+                        field.set(instance, dependency);
+                    }
+                }
+            }
+            return instance;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fundamentals.di;
+
+/**
+ * DERLEME ZAMANINDA URETILEN INJECTOR SOZLESMESI
+ *
+ * InjectorProcessor, @Inject field'i olan her sinif icin bu interface'i
+ * implement eden bir "*_Injector" sinifi uretir. Runtime'da field'lar
+ * reflection ile aranmaz; uretilen kod dogrudan atama yapar.
+ *
+ * Ornek: FieldInjection.PaymentService (FieldInjection.Inject)
+ *   -> FieldInjection_PaymentService_FieldInjection_Inject_Injector
+ */
+public interface GeneratedInjector<T> {
+
+    /**
+     * Parametresiz constructor ile yeni bir instance olusturur.
+     */
+    T create();
+
+    /**
+     * @Inject field'larini verilen kaynaktan doldurur.
+     */
+    void inject(T instance, DependencySource source);
+
+    /**
+     * Injector'in bagimliliklari istedigi kaynak (container, registry...).
+     * Field'da @Qualifier yoksa qualifier null gelir.
+     */
+    @FunctionalInterface
+    interface DependencySource {
+        Object get(Class<?> type, String qualifier);
+
+        // Bir field'a bagimlilik atandiktan sonra cagrilir (orn. loglama icin)
+        default void injected(String field) {
+        }
+    }
+}
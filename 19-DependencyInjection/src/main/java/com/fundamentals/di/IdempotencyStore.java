@@ -0,0 +1,226 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * IDEMPOTENCY ANAHTARI DEPOSU
+ *
+ * Istemci ayni istegi (ayni idempotency anahtari ile) tekrar gonderdiginde
+ * islem yeniden yapilmaz, ilk sonucu doner. Odeme gateway'lerinin onune
+ * konur (IdempotentGateway dekoratoru, moduldeki IPaymentGateway
+ * arayuzlerine baglanir).
+ *
+ * - Tamamlanan sonuclar: BoundedCache (W-TinyLFU), boyut sinirli ve
+ *   expireAfterWrite ile sureli. Milyonlarca anahtarda bellek sinirda kalir;
+ *   sinir asilinca en az tekrar edilen anahtarlar tahliye edilir.
+ * - Devam eden cagrilar: anahtar -> CompletableFuture. Ayni anahtarla
+ *   eszamanli gelen istekler tek gateway cagrisina birlestirilir (lider
+ *   cagirir, digerleri onun sonucunu bekler).
+ * - Istek parmak izi: anahtar farkli bir istekle (orn. baska tutar) tekrar
+ *   kullanilirsa IllegalStateException; sessizce eski sonucu donmek yanlis
+ *   olurdu.
+ * - Hatalar varsayilan olarak saklanmaz: gecici bir hatadan sonra tekrar
+ *   deneme islemi gercekten yeniden dener. cacheFailures(true) ile hata da
+ *   sonuc gibi saklanir.
+ */
+public final class IdempotencyStore<R> {
+
+    private final BoundedCache<String, Outcome<R>> completed;
+    private final Map<String, InFlight<R>> inFlight = new ConcurrentHashMap<>();
+    private final boolean cacheFailures;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    private IdempotencyStore(Builder<R> builder) {
+        this.completed = new BoundedCache.Builder<String, Outcome<R>>()
+                .maximumSize(builder.maximumKeys)
+                .expireAfterWrite(builder.retention)
+                .build();
+        this.cacheFailures = builder.cacheFailures;
+    }
+
+    /**
+     * Anahtar ilk kez goruluyorsa action calisir ve sonucu saklanir; tekrar
+     * veya eszamanli kopya ise ayni sonuc doner (veya ayni hata firlatilir).
+     *
+     * @param request parmak izi icin istek (equals ile karsilastirilir), orn. tutar
+     */
+    public R execute(String key, Object request, Supplier<R> action) {
+        Outcome<R> cached = completed.get(key);
+        if (cached != null) {
+            return replay(key, cached, request);
+        }
+
+        InFlight<R> mine = new InFlight<>(request);
+        InFlight<R> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            checkFingerprint(key, leader.request, request);
+            collapsed.increment();
+            return await(leader.future);
+        }
+
+        try {
+            // Onceki lider, get ile putIfAbsent arasinda bitirmis olabilir
+            cached = completed.get(key);
+            if (cached == null) {
+                cached = run(action, request);
+                if (cached.failure() == null || cacheFailures) {
+                    completed.put(key, cached);
+                }
+            } else {
+                checkFingerprint(key, cached.request(), request);
+                replays.increment();
+            }
+            mine.future.complete(cached);
+        } catch (Throwable e) {
+            // Error da dahil: aksi halde await'te bekleyen kopyalar hic uyanmaz
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Sonuc cache'e yazildiktan sonra kaldirilir: arada gelen istek bosluk gormez
+            inFlight.remove(key, mine);
+        }
+        return cached.unwrap();
+    }
+
+    /**
+     * Donus degeri olmayan islemler (void gateway metodlari) icin.
+     */
+    public void run(String key, Object request, Runnable action) {
+        Outcome<R> cached = completed.get(key);
+        if (cached != null) {
+            // Tekrar yolu: Supplier sarmalayicisi ayrilmaz
+            replay(key, cached, request);
+            return;
+        }
+        execute(key, request, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private Outcome<R> run(Supplier<R> action, Object request) {
+        executions.increment();
+        try {
+            return new Outcome<>(action.get(), null, request);
+        } catch (RuntimeException e) {
+            return new Outcome<>(null, e, request);
+        }
+    }
+
+    private R replay(String key, Outcome<R> cached, Object request) {
+        checkFingerprint(key, cached.request(), request);
+        replays.increment();
+        return cached.unwrap();
+    }
+
+    private R await(CompletableFuture<Outcome<R>> future) {
+        try {
+            return future.join().unwrap();
+        } catch (CompletionException e) {
+            // Liderin kendi hatasi (orn. parmak izi uyusmazligi veya Error); aynen ilet
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    // hashCode yerine equals: carpisan iki farkli istek birbirinin sonucunu almasin
+    private static void checkFingerprint(String key, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException("Idempotency anahtari farkli bir istekle tekrar kullanildi: " + key);
+        }
+    }
+
+    public void invalidate(String key) {
+        completed.invalidate(key);
+    }
+
+    public int size() {
+        return completed.size();
+    }
+
+    // ==========================================
+    // ISTATISTIK
+    // ==========================================
+
+    /**
+     * executions: gateway'e giden cagri; replays: cache'ten donen tekrar;
+     * collapsed: devam eden cagriya eklenen eszamanli kopya.
+     */
+    public Stats stats() {
+        BoundedCache.Stats cache = completed.stats();
+        return new Stats(executions.sum(), replays.sum(), collapsed.sum(), cache.evictionCount(),
+                cache.expirationCount());
+    }
+
+    public record Stats(long executions, long replays, long collapsed, long evictions, long expirations) {
+    }
+
+    // ==========================================
+    // IC YAPILAR
+    // ==========================================
+
+    private record Outcome<R>(R value, RuntimeException failure, Object request) {
+
+        R unwrap() {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
+
+    private static final class InFlight<R> {
+        final Object request;
+        final CompletableFuture<Outcome<R>> future = new CompletableFuture<>();
+
+        InFlight(Object request) {
+            this.request = request;
+        }
+    }
+
+    // ==========================================
+    // BUILDER
+    // ==========================================
+
+    public static class Builder<R> {
+        private long maximumKeys = 1_000_000;
+        private Duration retention = Duration.ofHours(24);
+        private boolean cacheFailures;
+
+        // Saklanan en fazla anahtar sayisi
+        public Builder<R> maximumKeys(long maximumKeys) {
+            this.maximumKeys = maximumKeys;
+            return this;
+        }
+
+        // Bir sonucun tekrarlara karsi saklanma suresi (yazildigi andan itibaren)
+        public Builder<R> retention(Duration retention) {
+            this.retention = retention;
+            return this;
+        }
+
+        public Builder<R> cacheFailures(boolean cacheFailures) {
+            this.cacheFailures = cacheFailures;
+            return this;
+        }
+
+        public IdempotencyStore<R> build() {
+            if (maximumKeys <= 0 || retention.isNegative() || retention.isZero()) {
+                throw new IllegalArgumentException("maximumKeys ve retention pozitif olmali");
+            }
+            return new IdempotencyStore<>(this);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fundamentals.di;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * IDEMPOTENCY OLCUMU
+ *
+ * IdempotencyStore: tekrar firtinasi, tekrar yolu maliyeti ve bellek.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.IdempotencyStoreBenchmark"
+ */
+public class IdempotencyStoreBenchmark {
+
+    public static void main(String[] args) {
+        idempotency();
+    }
+
+    // ==========================================
+    // 21. IDEMPOTENCY: TEKRAR FIRTINASI VE BELLEK
+    // ==========================================
+
+    static final int IDEMPOTENT_REQUESTS = 20_000;
+    static final int IDEMPOTENT_KEYS = 2_000_000;
+
+    /**
+     * Istek akisi: %30'u son 100 istekten birinin tekrari (istemci zaman
+     * asimi), gateway cagrisi 200 us. 8 thread, korumasiz gateway ile
+     * IdempotentGateway ile sarilmis gateway karsilastirilir. Sonra tekrar (cache isabeti)
+     * yolunun maliyeti ve 1M anahtar siniri olan depoya 2M farkli anahtar
+     * yazilinca heap kullanimi.
+     */
+    static void idempotency() {
+        System.out.println("\n21. IDEMPOTENCY: TEKRAR FIRTINASI VE BELLEK");
+        System.out.println("-".repeat(40));
+
+        String[] keys = new String[IDEMPOTENT_REQUESTS];
+        Random random = new Random(42);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i > 100 && random.nextDouble() < 0.3 ? keys[i - 1 - random.nextInt(100)] : "siparis-" + i;
+        }
+
+        LongAdder charges = new LongAdder();
+        QualifierAnnotation.IPaymentGateway gateway = amount -> {
+            LockSupport.parkNanos(200_000);
+            charges.increment();
+        };
+        System.out.printf("   %-22s %12s %14s %10s%n", "Gateway", "Istek/s", "Gateway cagri", "Birlesen");
+        idempotencyRun("Korumasiz", keys, gateway, charges, null);
+        IdempotencyStore<Void> store = new IdempotencyStore.Builder<Void>().maximumKeys(100_000).build();
+        idempotencyRun("IdempotentGateway", keys,
+                QualifierAnnotation.IPaymentGateway.idempotent(gateway, store), charges, store);
+
+        IdempotencyStore<Void> hot = new IdempotencyStore.Builder<Void>().maximumKeys(1_000).build();
+        Runnable noop = () -> {
+        };
+        hot.run("tekrar", 1.0, noop);
+        Double amount = 1.0;
+        double replayOps = DIBenchmarks.throughput(1, () -> hot.run("tekrar", amount, noop));
+        System.out.printf("   Tekrar (cache isabeti): %.0f ns/op, %.0f B/op%n", 1e9 / replayOps,
+                DIBenchmarks.allocatedBytesPerOp(() -> hot.run("tekrar", amount, noop)));
+
+        long heapBefore = DIBenchmarks.usedHeap();
+        IdempotencyStore<Void> bounded = new IdempotencyStore.Builder<Void>().maximumKeys(1_000_000).build();
+        long start = System.nanoTime();
+        for (int i = 0; i < IDEMPOTENT_KEYS; i++) {
+            bounded.run("odeme-" + i, amount, noop);
+        }
+        long elapsed = System.nanoTime() - start;
+        bounded.run("odeme-0", amount, noop); // Bekleyen bakim islensin
+        long heapAfter = DIBenchmarks.usedHeap();
+        IdempotencyStore.Stats stats = bounded.stats();
+        System.out.printf("   %,d anahtar yazildi (%.1f s): %,d tutuluyor, %,d tahliye, heap %,d MB (~%d B/anahtar)%n",
+                IDEMPOTENT_KEYS, elapsed / 1e9, bounded.size(), stats.evictions(),
+                (heapAfter - heapBefore) / (1024 * 1024), (heapAfter - heapBefore) / Math.max(1, bounded.size()));
+        DIBenchmarks.blackhole = bounded;
+    }
+
+    private static void idempotencyRun(String name, String[] keys, QualifierAnnotation.IPaymentGateway gateway,
+            LongAdder charges, IdempotencyStore<Void> store) {
+        charges.reset();
+        AtomicLong next = new AtomicLong();
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                long i;
+                while ((i = next.getAndIncrement()) < keys.length) {
+                    gateway.processPayment(keys[(int) i], 10.0);
+                }
+                done.countDown();
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("   %-22s %,12.0f %,14d %,10d%n", name, keys.length / seconds, charges.sum(),
+                store == null ? 0 : store.stats().collapsed());
+    }
+}
@@ -0,0 +1,40 @@
+package com.fundamentals.di;
+
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * IDEMPOTENT ODEME DEKORATORU
+ *
+ * Moduldeki IPaymentGateway arayuzleri (FieldInjection, QualifierAnnotation,
+ * DIBestPractices) ayni iki cagriyi tasir: anahtarsiz odeme ve istemcinin
+ * tekrar denemelerinde ayni idempotency anahtarini gonderdigi anahtarli
+ * odeme. Arayuzlerde anahtarli cagri varsayilan olarak anahtari yok sayar;
+ * boylece mevcut gateway'ler (ve lambda gateway'ler) degismeden kalir.
+ *
+ * Bu sinif anahtarli cagriyi IdempotencyStore'dan gecirir: tekrarlar ve
+ * ayni anda gelen kopyalar gateway'e tek cagri olarak gider. Anahtarsiz
+ * cagri korunamaz, dogrudan iletilir.
+ *
+ * Arayuze baglama, her modulde method reference ile yapilir:
+ *   new IdempotentGateway<>(stripe, IPaymentGateway::charge, store)
+ */
+final class IdempotentGateway<G> {
+
+    private final G delegate;
+    private final ObjDoubleConsumer<G> pay;
+    private final IdempotencyStore<Void> store;
+
+    IdempotentGateway(G delegate, ObjDoubleConsumer<G> pay, IdempotencyStore<Void> store) {
+        this.delegate = delegate;
+        this.pay = pay;
+        this.store = store;
+    }
+
+    void pay(double amount) {
+        pay.accept(delegate, amount);
+    }
+
+    void pay(String idempotencyKey, double amount) {
+        store.run(idempotencyKey, amount, () -> pay.accept(delegate, amount));
+    }
+}
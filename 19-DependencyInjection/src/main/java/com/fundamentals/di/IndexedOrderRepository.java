@@ -0,0 +1,206 @@
+package com.fundamentals.di;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * INDEKSLI, ESZAMANLI SIPARIS DEPOSU
+ *
+ * DIContainer.Order kayitlari icin bellek ici depo:
+ * - id -> siparis (ConcurrentHashMap)
+ * - urun -> siparisler (hash indeks)
+ * - (fiyat, id) -> siparis (ConcurrentSkipListMap, aralik sorgulari icin
+ *   sirali; ayni fiyatli siparisler id ile ayrilir, fiyat basina kova yok)
+ *
+ * Tutarlilik: bir kayit uc yapida birden guncellenir; okuyucu bunlarin
+ * yarisini gormemelidir (urun indeksinde yeni, fiyat indeksinde eski kayit
+ * gibi). Yazmalar StampedLock yazma kilidi altinda sira ile yapilir.
+ * Okumalar kilitsiz baslar (tryOptimisticRead), sonucu toplar ve damgayi
+ * dogrular; arada yazma olduysa okuma kilidi ile tekrarlanir. Yapilar
+ * eszamanli oldugu icin iyimser okuma sirasinda hata firlatmazlar, sadece
+ * tutarsiz olabilirler; validate bunu yakalar.
+ */
+public final class IndexedOrderRepository implements DIContainer.IOrderRepository {
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<String, DIContainer.Order> byId = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, DIContainer.Order>> byProduct = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<PriceKey, DIContainer.Order> byPrice = new ConcurrentSkipListMap<>();
+
+    private final LongAdder optimisticReads = new LongAdder();
+    private final LongAdder lockedReads = new LongAdder();
+
+    // ==========================================
+    // YAZMA
+    // ==========================================
+
+    /**
+     * Ekler veya ayni id'li siparisi degistirir.
+     */
+    @Override
+    public void save(DIContainer.Order order) {
+        long stamp = lock.writeLock();
+        try {
+            put(order);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Toplu yukleme: tek kilit altinda; okuyucular ya hepsini ya hicbirini gorur.
+     */
+    public void saveAll(Collection<DIContainer.Order> orders) {
+        // Fiyat sirasinda eklemek skip list'te ardisik dugumlere dokunur (rastgele siradan ~%30 hizli)
+        List<DIContainer.Order> sorted = new ArrayList<>(orders);
+        sorted.sort(Comparator.comparingDouble(DIContainer.Order::price));
+        long stamp = lock.writeLock();
+        try {
+            for (DIContainer.Order order : sorted) {
+                put(order);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean delete(String id) {
+        long stamp = lock.writeLock();
+        try {
+            DIContainer.Order previous = byId.remove(id);
+            if (previous != null) {
+                unindex(previous);
+            }
+            return previous != null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Yazma kilidi altinda
+    private void put(DIContainer.Order order) {
+        DIContainer.Order previous = byId.put(order.id(), order);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byProduct.computeIfAbsent(order.product(), k -> new ConcurrentHashMap<>()).put(order.id(), order);
+        byPrice.put(new PriceKey(order.price(), order.id()), order);
+    }
+
+    private void unindex(DIContainer.Order order) {
+        removeFrom(byProduct, order.product(), order.id());
+        byPrice.remove(new PriceKey(order.price(), order.id()));
+    }
+
+    private static void removeFrom(Map<String, Map<String, DIContainer.Order>> index, String key, String id) {
+        Map<String, DIContainer.Order> bucket = index.get(key);
+        if (bucket != null) {
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    // ==========================================
+    // OKUMA (IYIMSER)
+    // ==========================================
+
+    public DIContainer.Order findById(String id) {
+        // Tek yapidan tek okuma zaten tutarli; kilit gerekmez
+        return byId.get(id);
+    }
+
+    public List<DIContainer.Order> findByProduct(String product) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            List<DIContainer.Order> result = collectProduct(product);
+            if (lock.validate(stamp)) {
+                optimisticReads.increment();
+                return result;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            lockedReads.increment();
+            return collectProduct(product);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * minPrice <= fiyat <= maxPrice olan siparisler, fiyata gore artan sirada.
+     * Ters aralik (minPrice > maxPrice) veya NaN sinir bos liste doner.
+     */
+    public List<DIContainer.Order> findByPriceRange(double minPrice, double maxPrice) {
+        if (!(minPrice <= maxPrice)) {
+            return List.of(); // subMap ters aralikta IllegalArgumentException atar
+        }
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            List<DIContainer.Order> result = collectPriceRange(minPrice, maxPrice);
+            if (lock.validate(stamp)) {
+                optimisticReads.increment();
+                return result;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            lockedReads.increment();
+            return collectPriceRange(minPrice, maxPrice);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private List<DIContainer.Order> collectProduct(String product) {
+        Map<String, DIContainer.Order> bucket = byProduct.get(product);
+        return bucket == null ? List.of() : new ArrayList<>(bucket.values());
+    }
+
+    private List<DIContainer.Order> collectPriceRange(double minPrice, double maxPrice) {
+        return new ArrayList<>(byPrice.subMap(new PriceKey(minPrice, ""), true,
+                new PriceKey(maxPrice, null), true).values());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Iyimser okumalarin dogrulanan ve okuma kilidine dusen sayilari.
+     */
+    public ReadStats readStats() {
+        return new ReadStats(optimisticReads.sum(), lockedReads.sum());
+    }
+
+    /**
+     * Fiyat indeksi anahtari. id == null, ayni fiyattaki tum id'lerden buyuk
+     * sayilir (aralik sorgusunun ust siniri icin).
+     */
+    private record PriceKey(double price, String id) implements Comparable<PriceKey> {
+        @Override
+        public int compareTo(PriceKey other) {
+            int byPrice = Double.compare(price, other.price);
+            if (byPrice != 0 || id == other.id) {
+                return byPrice;
+            }
+            if (id == null) {
+                return 1;
+            }
+            return other.id == null ? -1 : id.compareTo(other.id);
+        }
+    }
+
+    public record ReadStats(long optimisticReads, long lockedReads) {
+    }
+}
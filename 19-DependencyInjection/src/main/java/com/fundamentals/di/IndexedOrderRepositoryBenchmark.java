@@ -0,0 +1,111 @@
+package com.fundamentals.di;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * INDEKSLI DEPO OLCUMU
+ *
+ * IndexedOrderRepository sorgulari ve tam tarama karsiliklari.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.IndexedOrderRepositoryBenchmark"
+ */
+public class IndexedOrderRepositoryBenchmark {
+
+    public static void main(String[] args) {
+        indexedOrders();
+    }
+
+    // ==========================================
+    // 15. INDEKSLI SIPARIS DEPOSU
+    // ==========================================
+
+    static final int INDEXED_ORDERS = 1_000_000;
+    static final int INDEXED_PRODUCTS = 1_000;
+    static final long SCAN_MEASURE_MILLIS = 3_000;
+
+    /**
+     * 1M siparis (1000 urun, fiyat 1-10000) ile IndexedOrderRepository
+     * sorgulari ve ayni sorgularin tum siparisleri tarayan karsiligi.
+     * Son satirlar: 1 thread fiyat guncellerken 3 thread aralik sorgusu.
+     */
+    static void indexedOrders() {
+        System.out.println("\n15. INDEKSLI SIPARIS DEPOSU");
+        System.out.println("-".repeat(40));
+
+        Random random = new Random(42);
+        List<DIContainer.Order> orders = new ArrayList<>(INDEXED_ORDERS);
+        for (int i = 0; i < INDEXED_ORDERS; i++) {
+            orders.add(new DIContainer.Order("ORD-" + i, "Urun-" + random.nextInt(INDEXED_PRODUCTS),
+                    1 + random.nextInt(999_900) / 100.0));
+        }
+        IndexedOrderRepository repository = new IndexedOrderRepository();
+        long start = System.nanoTime();
+        repository.saveAll(orders);
+        System.out.printf("   %,d siparis yuklendi: %d ms%n", repository.size(), (System.nanoTime() - start) / 1_000_000);
+        // Yuklemenin cop toplama borcu olcum penceresine tasmasin (aksi halde yuzlerce ms'lik duraklama)
+        DIBenchmarks.settleHeap();
+
+        // ~1000 sonuc: bir urun veya 10 TL genisliginde fiyat araligi
+        System.out.printf("   %-34s %14s%n", "Sorgu", "Sorgu/s");
+        System.out.printf("   %-34s %,14.0f%n", "findById", DIBenchmarks.throughput(1, () ->
+                DIBenchmarks.blackhole = repository.findById(
+                        "ORD-" + ThreadLocalRandom.current().nextInt(INDEXED_ORDERS))));
+        System.out.printf("   %-34s %,14.0f%n", "findByProduct (indeks)", DIBenchmarks.throughput(1, () ->
+                DIBenchmarks.blackhole = repository.findByProduct(
+                        "Urun-" + ThreadLocalRandom.current().nextInt(INDEXED_PRODUCTS))));
+        Runnable productScan = () -> {
+            String product = "Urun-" + ThreadLocalRandom.current().nextInt(INDEXED_PRODUCTS);
+            DIBenchmarks.blackhole = orders.stream().filter(o -> o.product().equals(product)).toList();
+        };
+        // Tam tarama ~10 ms suruyor: varsayilan pencerede sadece birkac islem olurdu
+        System.out.printf("   %-34s %,14.0f%n", "urun, tam tarama",
+                DIBenchmarks.throughput(1, SCAN_MEASURE_MILLIS, productScan));
+        System.out.printf("   %-34s %,14.0f%n", "findByPriceRange (indeks)", DIBenchmarks.throughput(1, () -> {
+            double min = ThreadLocalRandom.current().nextInt(9_990);
+            DIBenchmarks.blackhole = repository.findByPriceRange(min, min + 10);
+        }));
+        Runnable priceScan = () -> {
+            double min = ThreadLocalRandom.current().nextInt(9_990);
+            DIBenchmarks.blackhole = orders.stream().filter(o -> o.price() >= min && o.price() <= min + 10).toList();
+        };
+        System.out.printf("   %-34s %,14.0f%n", "fiyat araligi, tam tarama",
+                DIBenchmarks.throughput(1, SCAN_MEASURE_MILLIS, priceScan));
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        LongAdder writes = new LongAdder();
+        Thread writer = new Thread(() -> {
+            ThreadLocalRandom current = ThreadLocalRandom.current();
+            while (writing.get()) {
+                int i = current.nextInt(INDEXED_ORDERS);
+                repository.save(new DIContainer.Order("ORD-" + i, "Urun-" + current.nextInt(INDEXED_PRODUCTS),
+                        1 + current.nextInt(999_900) / 100.0));
+                writes.increment();
+            }
+        });
+        writer.setDaemon(true);
+        IndexedOrderRepository.ReadStats before = repository.readStats();
+        writer.start();
+        double reads = DIBenchmarks.throughput(3, () -> {
+            double min = ThreadLocalRandom.current().nextInt(9_990);
+            DIBenchmarks.blackhole = repository.findByPriceRange(min, min + 10);
+        });
+        writing.set(false);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        IndexedOrderRepository.ReadStats after = repository.readStats();
+        long optimistic = after.optimisticReads() - before.optimisticReads();
+        long locked = after.lockedReads() - before.lockedReads();
+        System.out.printf("   %-34s %,14.0f%n", "aralik, 3 okuyucu + 1 yazici", reads);
+        System.out.printf("   Yazma: %,d, iyimser okuma: %,d, kilide dusen: %,d (%%%.1f)%n", writes.sum(),
+                optimistic, locked, 100.0 * locked / Math.max(1, optimistic + locked));
+    }
+}
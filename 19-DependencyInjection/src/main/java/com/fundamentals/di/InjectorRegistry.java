@@ -0,0 +1,61 @@
+package com.fundamentals.di;
+
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+
+/**
+ * URETILMIS INJECTOR'LARIN BULUNMASI
+ *
+ * Her container kendi @Inject annotation'i icin bir registry tutar; sadece
+ * o annotation icin uretilmis injector'lari bulur (bkz. InjectorProcessor).
+ * Her sinif icin injector sadece bir kez aranir (Class.forName) ve
+ * ClassValue icinde saklanir. Sonraki cagrilar tek bir ClassValue.get'tir.
+ */
+final class InjectorRegistry {
+
+    static final String SUFFIX = "_Injector";
+
+    private final Class<? extends Annotation> inject;
+
+    private final ClassValue<Optional<GeneratedInjector<?>>> injectors = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedInjector<?>> computeValue(Class<?> type) {
+            try {
+                Class<?> injectorType = Class.forName(injectorName(type), true, type.getClassLoader());
+                return Optional.of((GeneratedInjector<?>) injectorType.getDeclaredConstructor().newInstance());
+            } catch (ClassNotFoundException e) {
+                // Annotation processor calismamis veya sinifta bu @Inject yok
+                return Optional.empty();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Injector yuklenemedi: " + type.getName(), e);
+            }
+        }
+    };
+
+    InjectorRegistry(Class<? extends Annotation> inject) {
+        this.inject = inject;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    <T> Optional<GeneratedInjector<T>> find(Class<T> type) {
+        return (Optional) injectors.get(type);
+    }
+
+    /**
+     * com.fundamentals.di.FieldInjection$PaymentService, FieldInjection.Inject
+     * -> com.fundamentals.di.FieldInjection_PaymentService_FieldInjection_Inject_Injector
+     */
+    String injectorName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        return prefix + flatName(type) + "_" + flatName(inject) + SUFFIX;
+    }
+
+    private static String flatName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String simpleBinaryName = packageName.isEmpty()
+                ? type.getName()
+                : type.getName().substring(packageName.length() + 1);
+        return simpleBinaryName.replace('$', '_');
+    }
+}
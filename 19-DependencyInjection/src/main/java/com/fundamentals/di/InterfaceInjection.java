@@ -1,6 +1,16 @@
 package com.fundamentals.di;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * INTERFACE INJECTION
@@ -20,6 +30,7 @@ public class InterfaceInjection {
         pluginSystemExample();
         lifecycleCallbackExample();
         compareWithSetterInjection();
+        hotSwapPlugins();
     }
 
     // ==========================================
@@ -122,6 +133,10 @@ public class InterfaceInjection {
         void initialize();
 
         void execute();
+
+        // PluginRegistry: kaldirildiktan ve icerideki cagrilar bittikten sonra
+        default void destroy() {
+        }
     }
 
     // Injector interface - Context bilgisi gerekiyorsa implement edilir
@@ -217,12 +232,18 @@ public class InterfaceInjection {
 
         framework.registerComponent(new DatabaseComponent());
         framework.registerComponent(new CacheComponent());
+        framework.registerComponent(new SearchIndexComponent());
+        framework.registerComponent(new ApiGatewayComponent());
 
         System.out.println("\n   --- Uygulamayi Baslat ---");
         framework.startAll();
 
         System.out.println("\n   --- Uygulamayi Durdur ---");
         framework.stopAll();
+
+        System.out.println("\n   --- Zaman Cizelgesi ---");
+        framework.printTimeline();
+        framework.shutdown();
     }
 
     // Lifecycle interface'leri
@@ -242,6 +263,11 @@ public class InterfaceInjection {
         String getName();
     }
 
+    // Opsiyonel: bu bilesenden once baslamasi (sonra durmasi) gereken bilesen adlari
+    interface IDependent {
+        Set<String> dependsOn();
+    }
+
     static class DatabaseComponent implements IComponent, IInitializable, IStartable, IStoppable {
         @Override
         public String getName() {
@@ -255,6 +281,7 @@ public class InterfaceInjection {
 
         @Override
         public void onStart() {
+            simulateWork(100);
             System.out.println("   [DB] Baglanti acildi");
         }
 
@@ -264,14 +291,20 @@ public class InterfaceInjection {
         }
     }
 
-    static class CacheComponent implements IComponent, IStartable, IStoppable {
+    static class CacheComponent implements IComponent, IStartable, IStoppable, IDependent {
         @Override
         public String getName() {
             return "Cache";
         }
 
+        @Override
+        public Set<String> dependsOn() {
+            return Set.of("Database");
+        }
+
         @Override
         public void onStart() {
+            simulateWork(80);
             System.out.println("   [Cache] Isitildi (warmed up)");
         }
 
@@ -281,32 +314,259 @@ public class InterfaceInjection {
         }
     }
 
+    // Database'den bagimsiz: onunla ayni anda baslar
+    static class SearchIndexComponent implements IComponent, IStartable, IStoppable {
+        @Override
+        public String getName() {
+            return "SearchIndex";
+        }
+
+        @Override
+        public void onStart() {
+            simulateWork(150);
+            System.out.println("   [Search] Indeks yuklendi");
+        }
+
+        @Override
+        public void onStop() {
+            System.out.println("   [Search] Indeks kapatildi");
+        }
+    }
+
+    static class ApiGatewayComponent implements IComponent, IStartable, IStoppable, IDependent {
+        @Override
+        public String getName() {
+            return "ApiGateway";
+        }
+
+        @Override
+        public Set<String> dependsOn() {
+            return Set.of("Cache", "SearchIndex");
+        }
+
+        @Override
+        public void onStart() {
+            simulateWork(30);
+            System.out.println("   [API] Istek kabul ediliyor");
+        }
+
+        @Override
+        public void onStop() {
+            System.out.println("   [API] Yeni istekler durduruldu");
+        }
+    }
+
+    static void simulateWork(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Bilesenler IDependent ile bagimliliklarini bildirir.
+     * - startAll: bir bilesen, bagimliliklarinin hepsi basladiktan hemen
+     *   sonra baslar; birbirinden bagimsiz bilesenler paralel calisir
+     *   (toplam sure = en uzun bagimlilik zinciri, toplam degil)
+     * - stopAll: ters sira; bilesen, ona bagimli olanlarin hepsi durduktan
+     *   sonra durur. Her durdurma stopTimeout ile sinirlidir; suresi asan
+     *   bilesen beklenmez, sirasi gelen devam eder.
+     * - onInitialize, kayit aninda degil baslatma gorevinin icinde calisir.
+     * Blok eden warm-up'lar icin thread havuzu gerektikce buyur.
+     */
     static class ComponentFramework {
-        private final List<IComponent> components = new ArrayList<>();
+        private final Map<String, IComponent> components = new LinkedHashMap<>();
+        private final Map<String, Duration> stopTimeouts = new HashMap<>();
+        private final Duration defaultStopTimeout;
+        private final ExecutorService executor;
+        private final List<TimelineEntry> timeline = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> started = ConcurrentHashMap.newKeySet();
+        private long epoch;
+
+        public ComponentFramework() {
+            this(Duration.ofSeconds(5));
+        }
 
-        public void registerComponent(IComponent component) {
-            components.add(component);
+        public ComponentFramework(Duration defaultStopTimeout) {
+            this.defaultStopTimeout = defaultStopTimeout;
+            this.executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "lifecycle");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
 
-            // IInitializable implement ediyorsa cagir
-            if (component instanceof IInitializable init) {
-                init.onInitialize();
+        public void registerComponent(IComponent component) {
+            if (components.putIfAbsent(component.getName(), component) != null) {
+                throw new IllegalArgumentException("Ayni isimde bilesen var: " + component.getName());
             }
         }
 
+        public void registerComponent(IComponent component, Duration stopTimeout) {
+            registerComponent(component);
+            stopTimeouts.put(component.getName(), stopTimeout);
+        }
+
         public void startAll() {
-            for (IComponent component : components) {
-                if (component instanceof IStartable start)
+            List<String> order = topologicalOrder();
+            epoch = System.nanoTime();
+            timeline.clear();
+
+            Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+            for (String name : order) {
+                IComponent component = components.get(name);
+                CompletableFuture<?>[] dependencies = dependenciesOf(component).stream()
+                        .map(futures::get).toArray(CompletableFuture[]::new);
+                futures.put(name, CompletableFuture.allOf(dependencies)
+                        .thenRunAsync(() -> start(component), executor));
+            }
+
+            try {
+                CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                // Baslayabilenleri geri al, sonra hatayi bildir
+                stopAll();
+                throw new IllegalStateException("Baslatma basarisiz", e.getCause());
+            }
+        }
+
+        private void start(IComponent component) {
+            long begin = System.nanoTime();
+            try {
+                if (component instanceof IInitializable init) {
+                    init.onInitialize();
+                }
+                if (component instanceof IStartable start) {
                     start.onStart();
+                }
+                started.add(component.getName());
+                record(component.getName(), "start", begin, "ok");
+            } catch (RuntimeException e) {
+                record(component.getName(), "start", begin, "hata: " + e.getMessage());
+                throw e;
             }
         }
 
         public void stopAll() {
-            // Ters sirada durdur (LIFO)
-            for (int i = components.size() - 1; i >= 0; i--) {
-                if (components.get(i) instanceof IStoppable stop)
-                    stop.onStop();
+            List<String> order = topologicalOrder();
+            Map<String, List<String>> dependents = new HashMap<>();
+            for (String name : order) {
+                for (String dependency : dependenciesOf(components.get(name))) {
+                    dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(name);
+                }
+            }
+
+            // Ters topolojik sirada kurulur: bagimlilarin future'lari once hazir
+            Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+            for (int i = order.size() - 1; i >= 0; i--) {
+                String name = order.get(i);
+                CompletableFuture<?>[] waitFor = dependents.getOrDefault(name, List.of()).stream()
+                        .map(futures::get).toArray(CompletableFuture[]::new);
+                futures.put(name, CompletableFuture.allOf(waitFor).thenCompose(ignored -> stop(name)));
+            }
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        }
+
+        // Hic hata firlatmaz: zaman asimi ve hatalar cizelgeye yazilir
+        private CompletableFuture<Void> stop(String name) {
+            IComponent component = components.get(name);
+            if (!started.remove(name) || !(component instanceof IStoppable stoppable)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            long begin = System.nanoTime();
+            Duration timeout = stopTimeouts.getOrDefault(name, defaultStopTimeout);
+            return CompletableFuture.runAsync(stoppable::onStop, executor)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .handle((ignored, error) -> {
+                        String status = "ok";
+                        if (error instanceof TimeoutException) {
+                            status = "zaman asimi (" + timeout.toMillis() + " ms)";
+                        } else if (error != null) {
+                            status = "hata: " + error.getMessage();
+                        }
+                        record(name, "stop", begin, status);
+                        return null;
+                    });
+        }
+
+        private Set<String> dependenciesOf(IComponent component) {
+            return component instanceof IDependent dependent ? dependent.dependsOn() : Set.of();
+        }
+
+        /**
+         * Bagimliliklar once gelecek sekilde siralar; bilinmeyen bagimlilik
+         * veya dongu varsa IllegalStateException.
+         */
+        private List<String> topologicalOrder() {
+            List<String> order = new ArrayList<>();
+            Map<String, Boolean> visiting = new HashMap<>(); // true = yolda, false = bitti
+            for (String name : components.keySet()) {
+                visit(name, visiting, order, new ArrayDeque<>());
+            }
+            return order;
+        }
+
+        private void visit(String name, Map<String, Boolean> visiting, List<String> order, Deque<String> path) {
+            Boolean state = visiting.get(name);
+            if (Boolean.FALSE.equals(state)) {
+                return;
+            }
+            path.addLast(name);
+            if (Boolean.TRUE.equals(state)) {
+                throw new IllegalStateException("Dongusel bagimlilik: " + String.join(" -> ", path));
+            }
+            IComponent component = components.get(name);
+            if (component == null) {
+                throw new IllegalStateException("Bilinmeyen bagimlilik: " + name + " (" + path + ")");
+            }
+            visiting.put(name, true);
+            for (String dependency : dependenciesOf(component)) {
+                visit(dependency, visiting, order, path);
+            }
+            visiting.put(name, false);
+            order.add(name);
+            path.removeLast();
+        }
+
+        // ==========================================
+        // ZAMAN CIZELGESI
+        // ==========================================
+
+        record TimelineEntry(String component, String phase, long startMillis, long durationMillis,
+                String thread, String status) {
+        }
+
+        private void record(String component, String phase, long begin, String status) {
+            long end = System.nanoTime();
+            timeline.add(new TimelineEntry(component, phase, (begin - epoch) / 1_000_000,
+                    (end - begin) / 1_000_000, Thread.currentThread().getName(), status));
+        }
+
+        public List<TimelineEntry> timeline() {
+            synchronized (timeline) {
+                return List.copyOf(timeline);
+            }
+        }
+
+        /**
+         * Her faz icin: baslangic, sure ve 40 karakterlik cubuk.
+         */
+        public void printTimeline() {
+            List<TimelineEntry> entries = timeline();
+            long total = entries.stream().mapToLong(e -> e.startMillis() + e.durationMillis()).max().orElse(1);
+            for (TimelineEntry entry : entries) {
+                int from = (int) (entry.startMillis() * 40 / Math.max(1, total));
+                int width = Math.max(1, (int) (entry.durationMillis() * 40 / Math.max(1, total)));
+                String bar = " ".repeat(from) + "#".repeat(Math.min(width, 40 - from));
+                System.out.printf("   %-12s %-5s %5d ms +%4d ms |%-40s| %s%n", entry.component(), entry.phase(),
+                        entry.startMillis(), entry.durationMillis(), bar, entry.status());
             }
         }
+
+        public void shutdown() {
+            executor.shutdown();
+        }
     }
 
     // ==========================================
@@ -340,4 +600,81 @@ public class InterfaceInjection {
                 - Constructor tercih edilmeli
                 """);
     }
+
+    // ==========================================
+    // 5. CALISIRKEN PLUGIN DEGISTIRME
+    // ==========================================
+
+    /**
+     * PluginRegistry: istek thread'leri plugin'leri calistirirken bir
+     * plugin yenisiyle degistirilir, biri kaldirilir. Okuyucular hic
+     * beklemez; kaldirilan plugin icerideki cagrilar bitince destroy edilir.
+     */
+    static void hotSwapPlugins() {
+        System.out.println("\n5. CALISIRKEN PLUGIN DEGISTIRME");
+        System.out.println("-".repeat(40));
+
+        CountingContext context = new CountingContext();
+        PluginRegistry registry = new PluginRegistry(context);
+        registry.load("logging", new LoggingPlugin());
+        registry.load("metrics", new MetricsPlugin());
+        System.out.println("   Yuklu: " + registry.names());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder requests = new LongAdder();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread worker = new Thread(() -> {
+                while (running.get()) {
+                    registry.executeAll();
+                    requests.increment();
+                }
+            }, "request-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        simulateWork(100);
+        long start = System.nanoTime();
+        boolean drained = registry.replace("metrics", new MetricsPlugin(), Duration.ofSeconds(1));
+        System.out.printf("   metrics degistirildi (bosaldi: %s, %.2f ms)%n", drained,
+                (System.nanoTime() - start) / 1e6);
+        simulateWork(100);
+        start = System.nanoTime();
+        drained = registry.unload("logging", Duration.ofSeconds(1));
+        System.out.printf("   logging kaldirildi (bosaldi: %s, %.2f ms)%n", drained,
+                (System.nanoTime() - start) / 1e6);
+        simulateWork(100);
+
+        running.set(false);
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.printf("   %,d istek islendi: %,d log, %,d metrik, %d hata%n", requests.sum(),
+                context.logs.sum(), context.metrics.sum(), registry.stats().failures());
+
+        registry.load("security", new SecurityPlugin());
+        System.out.println("   Yuklu: " + registry.names());
+        registry.executeAll();
+    }
+
+    // Cikti basmadan sayan context: istek dongusunde konsolu doldurmamak icin
+    static class CountingContext implements IPluginContext {
+        final LongAdder logs = new LongAdder();
+        final LongAdder metrics = new LongAdder();
+
+        @Override
+        public void log(String message) {
+            logs.increment();
+        }
+
+        @Override
+        public void recordMetric(String name, double value) {
+            metrics.increment();
+        }
+    }
 }
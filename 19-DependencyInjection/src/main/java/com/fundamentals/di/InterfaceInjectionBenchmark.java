@@ -0,0 +1,138 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * YASAM DONGUSU OLCUMU
+ *
+ * InterfaceInjection.ComponentFramework: sirali ve paralel baslatma/durdurma.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.InterfaceInjectionBenchmark"
+ */
+public class InterfaceInjectionBenchmark {
+
+    public static void main(String[] args) {
+        componentLifecycle();
+    }
+
+    // ==========================================
+    // 19. BILESEN YASAM DONGUSU: SIRALI vs PARALEL
+    // ==========================================
+
+    static final int LIFECYCLE_COMPONENTS = 30;
+
+    /**
+     * 30 bilesenli rastgele DAG (her bilesen onceki bilesenlerden en fazla
+     * ikisine bagli), 20-100 ms warm-up, 5-20 ms kapanis. Bir bilesenin
+     * kapanisi 2 s takilir; cercevede stop timeout'u 200 ms.
+     * Karsilastirma: ayni bilesenleri topolojik sirada tek thread'de
+     * baslatip ters sirada durduran eski dongu.
+     */
+    static void componentLifecycle() {
+        System.out.println("\n19. BILESEN YASAM DONGUSU: SIRALI vs PARALEL");
+        System.out.println("-".repeat(40));
+
+        List<LifecycleComponent> components = lifecycleGraph(new Random(42));
+
+        long start = System.nanoTime();
+        for (LifecycleComponent component : components) {
+            component.onStart(); // Liste zaten topolojik sirada
+        }
+        long sequentialStart = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = components.size() - 1; i >= 0; i--) {
+            components.get(i).onStop();
+        }
+        long sequentialStop = System.nanoTime() - start;
+
+        InterfaceInjection.ComponentFramework framework = new InterfaceInjection.ComponentFramework(
+                Duration.ofMillis(200));
+        components.forEach(framework::registerComponent);
+        start = System.nanoTime();
+        framework.startAll();
+        long parallelStart = System.nanoTime() - start;
+        start = System.nanoTime();
+        framework.stopAll();
+        long parallelStop = System.nanoTime() - start;
+        framework.shutdown();
+
+        long criticalPath = criticalPathMillis(components);
+        System.out.printf("   %-10s %12s %12s%n", "", "Baslatma", "Durdurma");
+        System.out.printf("   %-10s %9d ms %9d ms%n", "Sirali", sequentialStart / 1_000_000, sequentialStop / 1_000_000);
+        System.out.printf("   %-10s %9d ms %9d ms%n", "Paralel", parallelStart / 1_000_000, parallelStop / 1_000_000);
+        System.out.printf("   En uzun bagimlilik zinciri (alt sinir): %d ms%n", criticalPath);
+        framework.timeline().stream()
+                .filter(entry -> !entry.status().equals("ok"))
+                .forEach(entry -> System.out.printf("   %s %s: %s%n", entry.component(), entry.phase(), entry.status()));
+    }
+
+    static List<LifecycleComponent> lifecycleGraph(Random random) {
+        List<LifecycleComponent> components = new ArrayList<>();
+        for (int i = 0; i < LIFECYCLE_COMPONENTS; i++) {
+            Set<String> dependencies = new HashSet<>();
+            int count = i == 0 ? 0 : random.nextInt(3);
+            for (int d = 0; d < count; d++) {
+                dependencies.add(components.get(random.nextInt(i)).getName());
+            }
+            long stopMillis = i == LIFECYCLE_COMPONENTS / 2 ? 2_000 : 5 + random.nextInt(16);
+            components.add(new LifecycleComponent("c" + i, dependencies, 20 + random.nextInt(81), stopMillis));
+        }
+        return components;
+    }
+
+    static long criticalPathMillis(List<LifecycleComponent> components) {
+        Map<String, Long> finish = new HashMap<>();
+        long longest = 0;
+        for (LifecycleComponent component : components) {
+            long ready = component.dependsOn().stream().mapToLong(finish::get).max().orElse(0);
+            finish.put(component.getName(), ready + component.startMillis);
+            longest = Math.max(longest, ready + component.startMillis);
+        }
+        return longest;
+    }
+
+    static class LifecycleComponent implements InterfaceInjection.IComponent, InterfaceInjection.IStartable,
+            InterfaceInjection.IStoppable, InterfaceInjection.IDependent {
+        private final String name;
+        private final Set<String> dependencies;
+        private final long startMillis;
+        private final long stopMillis;
+
+        LifecycleComponent(String name, Set<String> dependencies, long startMillis, long stopMillis) {
+            this.name = name;
+            this.dependencies = dependencies;
+            this.startMillis = startMillis;
+            this.stopMillis = stopMillis;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Set<String> dependsOn() {
+            return dependencies;
+        }
+
+        @Override
+        public void onStart() {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(startMillis));
+        }
+
+        @Override
+        public void onStop() {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(stopMillis));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * MICRO-BATCHING
+ *
+ * Cagri basina sabit maliyeti yuksek (ag gidis-donusu, transaction, baglanti)
+ * servislerde tek tek cagri yerine kisa bir pencerede biriken cagrilar tek
+ * bir toplu cagri olarak gonderilir.
+ *
+ * - submit(): istegi kuyruga koyar, hemen bir CompletableFuture dondurur
+ * - Toplayici thread: ilk istekten itibaren en fazla maxDelay bekler veya
+ *   maxBatchSize istege ulasinca batch'i kapatir
+ * - Batch, verilen Executor'da batchHandler ile calisir; toplayici bu sirada
+ *   siradaki batch'i toplamaya devam eder
+ * - batchHandler girdiyle ayni sirada ve ayni sayida sonuc dondurmelidir;
+ *   her sonuc kendi cagiraninin future'ini tamamlar
+ *
+ * Yuk dusukken bir istek en fazla maxDelay kadar ek gecikme gorur; yuk
+ * artinca batch'ler dolar ve bekleme kendiliginden kisalir.
+ */
+public final class MicroBatcher<I, O> implements AutoCloseable {
+
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Function<List<I>, List<O>> batchHandler;
+    private final Executor executor;
+    private final BlockingQueue<Pending<I, O>> queue = new LinkedBlockingQueue<>();
+    private final Thread collector;
+    private volatile boolean closed;
+
+    public MicroBatcher(String name, int maxBatchSize, Duration maxDelay,
+            Function<List<I>, List<O>> batchHandler, Executor executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize en az 1 olmali");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.batchHandler = batchHandler;
+        this.executor = executor;
+        this.collector = new Thread(this::collectLoop, name + "-batcher");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    public CompletableFuture<O> submit(I input) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Batcher kapali"));
+        }
+        Pending<I, O> pending = new Pending<>(input, new CompletableFuture<>());
+        queue.add(pending);
+        // close() son bosaltmayi bu eklemeden once yapmis olabilir; kuyrukta
+        // kaldiysa kimse almayacak. Alindiysa (toplayici veya close) o tamamlar.
+        if (closed && queue.remove(pending)) {
+            pending.future.completeExceptionally(new IllegalStateException("Batcher kapali"));
+        }
+        return pending.future;
+    }
+
+    private void collectLoop() {
+        List<Pending<I, O>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Pending<I, O> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+
+                // Hazir olanlari beklemeden al, sonra pencere dolana kadar bekle
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Pending<I, O> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+
+                dispatch(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(batch, e);
+        } catch (Throwable e) {
+            failAll(batch, e);
+            throw e;
+        }
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        try {
+            executor.execute(() -> complete(batch));
+        } catch (Throwable e) {
+            failAll(batch, e);
+        }
+    }
+
+    private void complete(List<Pending<I, O>> batch) {
+        List<I> inputs = new ArrayList<>(batch.size());
+        for (Pending<I, O> pending : batch) {
+            inputs.add(pending.input);
+        }
+        try {
+            List<O> outputs = batchHandler.apply(inputs);
+            if (outputs.size() != batch.size()) {
+                throw new IllegalStateException(
+                        "Batch sonucu " + outputs.size() + " adet, beklenen " + batch.size());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(outputs.get(i));
+            }
+        } catch (Throwable e) {
+            // Error da dahil: aksi halde join() ile bekleyen cagiranlar sonsuza kadar kalir
+            failAll(batch, e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private static <I, O> void failAll(List<Pending<I, O>> batch, Throwable cause) {
+        for (Pending<I, O> pending : batch) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Yeni istek kabul etmez; kuyruktakiler gonderildikten sonra doner.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            collector.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Kapanirken yarisan submit'ler
+        List<Pending<I, O>> late = new ArrayList<>();
+        queue.drainTo(late);
+        failAll(late, new IllegalStateException("Batcher kapali"));
+    }
+
+    private record Pending<I, O>(I input, CompletableFuture<O> future) {
+    }
+}
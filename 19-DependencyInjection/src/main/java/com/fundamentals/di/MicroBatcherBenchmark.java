@@ -0,0 +1,134 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * MICRO-BATCHING OLCUMU
+ *
+ * MicroBatcher tabanli BatchingPaymentService: gecikme ve throughput.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.MicroBatcherBenchmark"
+ */
+public class MicroBatcherBenchmark {
+
+    public static void main(String[] args) {
+        microBatching();
+    }
+
+    // ==========================================
+    // 13. MICRO-BATCHING: GECIKME / THROUGHPUT
+    // ==========================================
+
+    static final long BATCH_CALL_MILLIS = 1_000;
+    static final int BATCH_CONNECTIONS = 4;
+
+    /**
+     * Odeme servisi taklidi: her cagri 1 ms sabit + kalem basina 10 us surer
+     * ve ayni anda en fazla 4 cagri (baglanti havuzu) yapilabilir.
+     * - tekil: her processPayment bir cagri
+     * - batch: BatchingPaymentService, 100 cagri / 2 ms pencere
+     * Her satir BATCH_CALL_MILLIS boyunca N cagiran thread'in olcumudur.
+     */
+    static void microBatching() {
+        System.out.println("\n13. MICRO-BATCHING: GECIKME / THROUGHPUT");
+        System.out.println("-".repeat(40));
+
+        SimulatedPaymentBackend backend = new SimulatedPaymentBackend();
+        ExecutorService batchExecutor = Executors.newFixedThreadPool(BATCH_CONNECTIONS * 2);
+        ConstructorInjection.BatchingPaymentService batching = new ConstructorInjection.BatchingPaymentService(
+                backend, 100, Duration.ofMillis(2), batchExecutor);
+
+        System.out.printf("   %-8s %8s %14s %10s %10s%n", "Mod", "Thread", "Cagri/s", "p50 ms", "p99 ms");
+        for (int callers : new int[] { 1, 16, 64, 256 }) {
+            latencyRun("tekil", callers, backend);
+            latencyRun("batch", callers, batching);
+        }
+        batching.close();
+        batchExecutor.shutdown();
+    }
+
+    private static void latencyRun(String mode, int callers, ConstructorInjection.IPaymentService payment) {
+        List<long[]> perThread = Collections.synchronizedList(new ArrayList<>());
+        LongAdder calls = new LongAdder();
+        CountDownLatch done = new CountDownLatch(callers);
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BATCH_CALL_MILLIS);
+
+        for (int t = 0; t < callers; t++) {
+            Thread thread = new Thread(() -> {
+                long[] latencies = new long[4096];
+                int count = 0;
+                while (System.nanoTime() < end) {
+                    long start = System.nanoTime();
+                    payment.processPayment(100.0);
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                perThread.add(Arrays.copyOf(latencies, count));
+                calls.add(count);
+                done.countDown();
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long[] all = new long[calls.intValue()];
+        int position = 0;
+        for (long[] latencies : perThread) {
+            System.arraycopy(latencies, 0, all, position, latencies.length);
+            position += latencies.length;
+        }
+        Arrays.sort(all);
+        System.out.printf("   %-8s %8d %,14.0f %10.2f %10.2f%n", mode, callers,
+                all.length / (BATCH_CALL_MILLIS / 1000.0),
+                all[all.length / 2] / 1e6, all[(int) (all.length * 0.99)] / 1e6);
+    }
+
+    /**
+     * Hem tekil hem toplu arayuzu ayni maliyet modeliyle sunar.
+     */
+    static class SimulatedPaymentBackend implements ConstructorInjection.IPaymentService,
+            ConstructorInjection.IBatchPaymentService {
+        private final Semaphore connections = new Semaphore(BATCH_CONNECTIONS);
+
+        @Override
+        public boolean processPayment(double amount) {
+            call(1);
+            return true;
+        }
+
+        @Override
+        public List<Boolean> processPayments(List<Double> amounts) {
+            call(amounts.size());
+            return Collections.nCopies(amounts.size(), true);
+        }
+
+        private void call(int items) {
+            connections.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(1_000_000L + items * 10_000L);
+            } finally {
+                connections.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * BILDIRIM DAGITICI (FAN-OUT)
+ *
+ * Bir olay, kayitli tum kanallara (QualifierAnnotation.INotificationService)
+ * ayni anda gonderilir. Her kanalin kendi:
+ * - sinirli kuyrugu: dolarsa o kanal icin olay reddedilir (backpressure),
+ *   diger kanallar etkilenmez; dispatch() hic beklemez
+ * - worker thread'leri: yavas bir kanal sadece kendi thread'lerini mesgul eder
+ * - hiz siniri: saniyede en fazla N gonderim (kilitsiz GCRA / token bucket)
+ * - yeniden deneme: hata olursa ustel bekleme ile maxAttempts'e kadar
+ *
+ * Java 17'de virtual thread olmadigi icin her kanal az sayida platform
+ * thread'i kullanir; gecikmesi yuksek kanal icin workers artirilir.
+ */
+public final class NotificationDispatcher implements AutoCloseable {
+
+    private final Map<String, Channel> channels;
+
+    private NotificationDispatcher(Builder builder) {
+        Map<String, Channel> created = new LinkedHashMap<>();
+        builder.channels.forEach((name, registration) -> created.put(name,
+                new Channel(name, registration.service(), registration.options())));
+        this.channels = created;
+    }
+
+    /**
+     * Olayi her kanalin kuyruguna koyar; kuyrugu dolu olan kanallarin adlarini dondurur.
+     */
+    public List<String> dispatch(String message) {
+        List<String> rejected = null;
+        long now = System.nanoTime();
+        for (Channel channel : channels.values()) {
+            if (!channel.offer(message, now)) {
+                if (rejected == null) {
+                    rejected = new ArrayList<>(1);
+                }
+                rejected.add(channel.name);
+            }
+        }
+        return rejected == null ? List.of() : rejected;
+    }
+
+    public Map<String, ChannelStats> stats() {
+        Map<String, ChannelStats> result = new LinkedHashMap<>();
+        channels.forEach((name, channel) -> result.put(name, channel.stats()));
+        return result;
+    }
+
+    /**
+     * Yeni olay kabul etmez; kuyruktakiler gonderilir (en fazla timeout kadar beklenir).
+     */
+    public void close(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Channel channel : channels.values()) {
+            channel.closing = true;
+        }
+        for (Channel channel : channels.values()) {
+            channel.awaitWorkers(deadline);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(30));
+    }
+
+    // ==========================================
+    // KANAL
+    // ==========================================
+
+    /**
+     * queueCapacity: kanal kuyrugu; workers: kanal thread sayisi;
+     * ratePerSecond: 0 = sinirsiz; maxAttempts: ilk deneme dahil.
+     */
+    public record ChannelOptions(int queueCapacity, int workers, double ratePerSecond, int maxAttempts,
+            Duration retryBackoff) {
+
+        public static ChannelOptions of(int queueCapacity, int workers) {
+            return new ChannelOptions(queueCapacity, workers, 0, 1, Duration.ZERO);
+        }
+
+        public ChannelOptions rateLimit(double perSecond) {
+            return new ChannelOptions(queueCapacity, workers, perSecond, maxAttempts, retryBackoff);
+        }
+
+        public ChannelOptions retry(int attempts, Duration backoff) {
+            return new ChannelOptions(queueCapacity, workers, ratePerSecond, attempts, backoff);
+        }
+    }
+
+    /**
+     * latency: olayin dispatch edildigi andan basarili gonderime kadar.
+     */
+    public record ChannelStats(long delivered, long rejected, long failed, long retries,
+            double averageLatencyMillis, double maxLatencyMillis, int queued) {
+    }
+
+    private record Delivery(String message, long enqueuedAt) {
+    }
+
+    private static final class Channel {
+        private final String name;
+        private final QualifierAnnotation.INotificationService service;
+        private final ChannelOptions options;
+        private final BlockingQueue<Delivery> queue;
+        private final List<Thread> workers = new ArrayList<>();
+        private final RateLimiter limiter;
+        private volatile boolean closing;
+
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder latencyTotal = new LongAdder();
+        private final LongAccumulator latencyMax = new LongAccumulator(Math::max, 0);
+
+        Channel(String name, QualifierAnnotation.INotificationService service, ChannelOptions options) {
+            this.name = name;
+            this.service = service;
+            this.options = options;
+            this.queue = new ArrayBlockingQueue<>(options.queueCapacity());
+            this.limiter = options.ratePerSecond() > 0 ? new RateLimiter(options.ratePerSecond()) : null;
+            for (int i = 1; i <= options.workers(); i++) {
+                Thread worker = new Thread(this::work, "notify-" + name + "-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+
+        /**
+         * closing kontrolu ile kuyruga ekleme arasinda close() gelebilir; worker'lar
+         * o arada cikmis olabilir. Bu yuzden eklemeden sonra tekrar bakilir: kapanis
+         * basladiysa olay geri alinir ve reddedilir. Geri alinamadiysa bir worker
+         * onu almistir ve gonderir. Worker tarafi da cikmadan once kuyruga son bir
+         * kez bakar (bkz. work), geri alma ile birlikte kabul edilen olay kaybolmaz.
+         */
+        boolean offer(String message, long now) {
+            if (closing) {
+                rejected.increment();
+                return false;
+            }
+            Delivery delivery = new Delivery(message, now);
+            if (!queue.offer(delivery)) {
+                rejected.increment();
+                return false;
+            }
+            if (closing && queue.remove(delivery)) {
+                rejected.increment();
+                return false;
+            }
+            return true;
+        }
+
+        private void work() {
+            while (true) {
+                Delivery delivery;
+                try {
+                    delivery = queue.poll(50, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (delivery == null) {
+                    if (!closing) {
+                        continue;
+                    }
+                    // closing gorulmeden once eklenen olay, poll'dan sonra gelmis olabilir
+                    delivery = queue.poll();
+                    if (delivery == null) {
+                        return;
+                    }
+                }
+                deliver(delivery);
+            }
+        }
+
+        private void deliver(Delivery delivery) {
+            long backoff = options.retryBackoff().toNanos();
+            for (int attempt = 1;; attempt++) {
+                if (limiter != null) {
+                    limiter.acquire();
+                }
+                try {
+                    service.send(delivery.message());
+                    long latency = System.nanoTime() - delivery.enqueuedAt();
+                    latencyTotal.add(latency);
+                    latencyMax.accumulate(latency);
+                    delivered.increment();
+                    return;
+                } catch (Throwable e) { // Error da worker'i oldurmemeli; kanal yoksa kuyruk hic bosalmaz
+                    if (attempt >= options.maxAttempts()) {
+                        failed.increment();
+                        return;
+                    }
+                    retries.increment();
+                    LockSupport.parkNanos(backoff);
+                    backoff *= 2;
+                }
+            }
+        }
+
+        void awaitWorkers(long deadline) {
+            for (Thread worker : workers) {
+                long remaining = deadline - System.nanoTime();
+                try {
+                    if (remaining > 0) {
+                        worker.join(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (worker.isAlive()) {
+                    worker.interrupt(); // Sure doldu: kalanlar gonderilmez
+                }
+            }
+        }
+
+        ChannelStats stats() {
+            long count = delivered.sum();
+            return new ChannelStats(count, rejected.sum(), failed.sum(), retries.sum(),
+                    count == 0 ? 0 : latencyTotal.sum() / 1e6 / count, latencyMax.get() / 1e6, queue.size());
+        }
+    }
+
+    /**
+     * GCRA: her gonderim bir sonraki izin zamanini interval kadar ileri iter.
+     * Bosta gecen sure en fazla bir saniyelik burst olarak biriktirilir.
+     */
+    private static final class RateLimiter {
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong nextFree = new AtomicLong(System.nanoTime());
+
+        RateLimiter(double perSecond) {
+            this.intervalNanos = (long) (1e9 / perSecond);
+            this.burstNanos = TimeUnit.SECONDS.toNanos(1);
+        }
+
+        void acquire() {
+            while (true) {
+                long now = System.nanoTime();
+                long previous = nextFree.get();
+                long start = Math.max(previous, now - burstNanos);
+                if (nextFree.compareAndSet(previous, start + intervalNanos)) {
+                    if (start > now) {
+                        LockSupport.parkNanos(start - now);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    // ==========================================
+    // BUILDER
+    // ==========================================
+
+    private record Registration(QualifierAnnotation.INotificationService service, ChannelOptions options) {
+    }
+
+    public static class Builder {
+        private final Map<String, Registration> channels = new LinkedHashMap<>();
+
+        public Builder channel(String name, QualifierAnnotation.INotificationService service, ChannelOptions options) {
+            if (options.queueCapacity() < 1 || options.workers() < 1 || options.maxAttempts() < 1) {
+                throw new IllegalArgumentException("queueCapacity, workers ve maxAttempts en az 1 olmali: " + name);
+            }
+            channels.put(name, new Registration(service, options));
+            return this;
+        }
+
+        public NotificationDispatcher build() {
+            return new NotificationDispatcher(this);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * BILDIRIM FAN-OUT OLCUMU
+ *
+ * NotificationDispatcher: yavas ve hatali kanallarla fan-out.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.NotificationDispatcherBenchmark"
+ */
+public class NotificationDispatcherBenchmark {
+
+    public static void main(String[] args) {
+        notificationFanOut();
+    }
+
+    // ==========================================
+    // 18. BILDIRIM FAN-OUT YUK TESTI
+    // ==========================================
+
+    static final int NOTIFICATION_EVENTS = 2_000;
+
+    /**
+     * Dort taklit kanal: push 1 ms, sms 5 ms (%10 hata, 3 deneme, 800/s
+     * sinir), email 20 ms, webhook 200 ms (tikanan kanal, kuyruk 200).
+     * Olaylar 1000/s hizinda uretilir. Karsilastirma: ayni olaylari sirayla
+     * tum kanallara gonderen senkron dongu.
+     */
+    static void notificationFanOut() {
+        System.out.println("\n18. BILDIRIM FAN-OUT YUK TESTI");
+        System.out.println("-".repeat(40));
+
+        SimulatedChannel push = new SimulatedChannel(1, 0);
+        SimulatedChannel sms = new SimulatedChannel(5, 0.1);
+        SimulatedChannel email = new SimulatedChannel(20, 0);
+        SimulatedChannel webhook = new SimulatedChannel(200, 0);
+
+        int sequentialEvents = 20;
+        long start = System.nanoTime();
+        for (int i = 0; i < sequentialEvents; i++) {
+            for (SimulatedChannel channel : List.of(push, sms, email, webhook)) {
+                try {
+                    channel.send("olay-" + i);
+                } catch (RuntimeException e) {
+                    // Senkron yolda tekrar deneme yok
+                }
+            }
+        }
+        System.out.printf("   Senkron, sirali: %,.1f olay/s%n", sequentialEvents / ((System.nanoTime() - start) / 1e9));
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher.Builder()
+                .channel("push", push, NotificationDispatcher.ChannelOptions.of(1_000, 2))
+                .channel("sms", sms, NotificationDispatcher.ChannelOptions.of(1_000, 8)
+                        .rateLimit(800).retry(3, Duration.ofMillis(5)))
+                .channel("email", email, NotificationDispatcher.ChannelOptions.of(1_000, 32))
+                .channel("webhook", webhook, NotificationDispatcher.ChannelOptions.of(200, 2))
+                .build();
+
+        long dispatchNanos = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < NOTIFICATION_EVENTS; i++) {
+            long begin = System.nanoTime();
+            dispatcher.dispatch("olay-" + i);
+            dispatchNanos += System.nanoTime() - begin;
+            // 1 ms aralikla uret
+            LockSupport.parkNanos(start + (i + 1) * 1_000_000L - System.nanoTime());
+        }
+        double produceSeconds = (System.nanoTime() - start) / 1e9;
+        dispatcher.close(Duration.ofSeconds(3));
+
+        System.out.printf("   Dispatcher: %,d olay %.1f s'de, dispatch() ort. %.1f us%n", NOTIFICATION_EVENTS,
+                produceSeconds, dispatchNanos / 1e3 / NOTIFICATION_EVENTS);
+        System.out.printf("   %-9s %9s %9s %7s %8s %9s %9s %8s%n", "Kanal", "Gonderim", "Reddedil", "Hata",
+                "Tekrar", "Ort. ms", "Max ms", "Kuyruk");
+        dispatcher.stats().forEach((name, stats) -> System.out.printf(
+                "   %-9s %,9d %,9d %,7d %,8d %9.1f %9.1f %,8d%n", name, stats.delivered(), stats.rejected(),
+                stats.failed(), stats.retries(), stats.averageLatencyMillis(), stats.maxLatencyMillis(),
+                stats.queued()));
+    }
+
+    /**
+     * Sabit gecikmeli, istenirse rastgele hata veren bildirim kanali.
+     */
+    static class SimulatedChannel implements QualifierAnnotation.INotificationService {
+        private final long latencyNanos;
+        private final double failureRate;
+
+        SimulatedChannel(long latencyMillis, double failureRate) {
+            this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+            this.failureRate = failureRate;
+        }
+
+        @Override
+        public void send(String message) {
+            LockSupport.parkNanos(latencyNanos);
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                throw new IllegalStateException("Kanal gecici olarak erisilemez");
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.fundamentals.di;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OFF-HEAP DEGER DEPOSU
+ *
+ * Buyuk degerler heap'te tutuldugunda GC her dongude onlari da izler ve
+ * tasir; cache buyudukce duraklamalar uzar. Bu depo degerleri heap disinda
+ * (direct ByteBuffer veya memory-mapped dosya) tutar, heap'te sadece
+ * anahtar -> adres (tek long) indeksi kalir.
+ *
+ * Yerlesim:
+ * - Bellek esit boyutlu slab'lara bolunur, yazma her zaman aktif slab'in
+ *   sonuna eklenir (log-structured): [anahtarUzunlugu][degerUzunlugu][anahtar][deger]
+ * - Aktif slab dolunca siradaki slab'a gecilir; hepsi doluysa en eski slab
+ *   bastan kullanilir (slab FIFO tahliye). Slab'daki kayitlar gezilip
+ *   anahtarlari indeksten silinir.
+ * - Guncellenen veya silinen kaydin eski kopyasi slab geri donusturulene
+ *   kadar yer kaplar.
+ *
+ * Okuma kilitsizdir: adres icindeki slab nesli, byte'lar kopyalandiktan
+ * sonra tekrar kontrol edilir (StampedLock.validate benzeri). Bu arada
+ * slab geri donusturulduyse okuma miss sayilir.
+ */
+public final class OffHeapStore implements AutoCloseable {
+
+    private static final int RECORD_HEADER = 8; // anahtar uzunlugu + deger uzunlugu
+    private static final int END_OF_SLAB = -1;
+
+    // Adres: [slab 16 bit][nesil 16 bit][offset 32 bit]
+    private static final int GENERATION_MASK = 0xFFFF;
+
+    private final ByteBuffer[] slabs;
+    private final AtomicIntegerArray generations;
+    private final int slabSize;
+    private final Map<String, Long> index = new ConcurrentHashMap<>();
+    private final FileChannel channel;
+
+    // Yazma kilidi altinda
+    private int activeSlab;
+    private int writeOffset;
+    private final long[] liveBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder recycledSlabs = new LongAdder();
+
+    private OffHeapStore(ByteBuffer[] slabs, int slabSize, FileChannel channel) {
+        this.slabs = slabs;
+        this.slabSize = slabSize;
+        this.channel = channel;
+        this.generations = new AtomicIntegerArray(slabs.length);
+        this.liveBytes = new long[slabs.length];
+    }
+
+    /**
+     * Direct ByteBuffer slab'lari. Toplam boyut -XX:MaxDirectMemorySize ile sinirlidir.
+     */
+    public static OffHeapStore direct(int slabSize, int slabCount) {
+        checkLayout(slabSize, slabCount);
+        ByteBuffer[] slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            slabs[i] = ByteBuffer.allocateDirect(slabSize);
+        }
+        return new OffHeapStore(slabs, slabSize, null);
+    }
+
+    /**
+     * Memory-mapped dosya: direct bellek sinirina takilmaz, isletim sisteminin
+     * sayfa cache'i kullanilir (cok GB'lik cache icin).
+     */
+    public static OffHeapStore mapped(Path file, int slabSize, int slabCount) throws IOException {
+        checkLayout(slabSize, slabCount);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer[] slabs = new ByteBuffer[slabCount];
+            for (int i = 0; i < slabCount; i++) {
+                slabs[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * slabSize, slabSize);
+            }
+            return new OffHeapStore(slabs, slabSize, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void checkLayout(int slabSize, int slabCount) {
+        if (slabSize < 1024 || slabCount < 2 || slabCount > 0xFFFF) {
+            throw new IllegalArgumentException("slabSize >= 1024 ve 2 <= slabCount <= 65535 olmali");
+        }
+    }
+
+    // ==========================================
+    // OKUMA (KILITSIZ)
+    // ==========================================
+
+    public byte[] get(String key) {
+        Long address = index.get(key);
+        if (address == null) {
+            misses.increment();
+            return null;
+        }
+        int slab = slabOf(address);
+        int generation = generationOf(address);
+        int offset = offsetOf(address);
+
+        if ((generations.get(slab) & GENERATION_MASK) == generation) {
+            ByteBuffer buffer = slabs[slab];
+            int keyLength = buffer.getInt(offset);
+            int valueLength = buffer.getInt(offset + 4);
+            int valueOffset = offset + RECORD_HEADER + keyLength;
+            // Eszamanli geri donusumde uzunluklar bozuk olabilir; sinirlari kontrol et
+            if (keyLength >= 0 && valueLength >= 0 && (long) valueOffset + valueLength <= slabSize) {
+                byte[] value = new byte[valueLength];
+                buffer.get(valueOffset, value);
+                VarHandle.acquireFence();
+                if ((generations.get(slab) & GENERATION_MASK) == generation) {
+                    hits.increment();
+                    return value;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public String getString(String key) {
+        byte[] value = get(key);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    // ==========================================
+    // YAZMA (TEK KILIT)
+    // ==========================================
+
+    public void put(String key, byte[] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int recordSize = RECORD_HEADER + keyBytes.length + value.length;
+        if (recordSize > slabSize) {
+            throw new IllegalArgumentException("Kayit slab'dan buyuk: " + recordSize + " > " + slabSize);
+        }
+
+        synchronized (this) {
+            if (writeOffset + recordSize > slabSize) {
+                advanceSlab();
+            }
+            ByteBuffer buffer = slabs[activeSlab];
+            int offset = writeOffset;
+            buffer.putInt(offset, keyBytes.length);
+            buffer.putInt(offset + 4, value.length);
+            buffer.put(offset + RECORD_HEADER, keyBytes);
+            buffer.put(offset + RECORD_HEADER + keyBytes.length, value);
+            writeOffset += recordSize;
+
+            long address = addressOf(activeSlab, generations.get(activeSlab) & GENERATION_MASK, offset);
+            Long previous = index.put(key, address);
+            liveBytes[activeSlab] += recordSize;
+            if (previous != null) {
+                releaseRecord(previous);
+            }
+        }
+    }
+
+    public void putString(String key, String value) {
+        put(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void remove(String key) {
+        synchronized (this) {
+            Long previous = index.remove(key);
+            if (previous != null) {
+                releaseRecord(previous);
+            }
+        }
+    }
+
+    // Eski kopyanin yeri slab geri donusene kadar bos kalir; sadece istatistik
+    private void releaseRecord(long address) {
+        int slab = slabOf(address);
+        if ((generations.get(slab) & GENERATION_MASK) == generationOf(address)) {
+            ByteBuffer buffer = slabs[slab];
+            int offset = offsetOf(address);
+            liveBytes[slab] -= RECORD_HEADER + buffer.getInt(offset) + buffer.getInt(offset + 4);
+        }
+    }
+
+    /**
+     * Siradaki slab'a gecer. O slab doluysa (tum halka bir kez dolduysa)
+     * once icindeki canli kayitlar indeksten silinir, sonra nesli artirilir.
+     */
+    private void advanceSlab() {
+        // Biten slab'a sonlandirici: geri donusumde kayit taramasi burada durur
+        if (writeOffset + RECORD_HEADER <= slabSize) {
+            slabs[activeSlab].putInt(writeOffset, END_OF_SLAB);
+        }
+        activeSlab = (activeSlab + 1) % slabs.length;
+        writeOffset = 0;
+        if (liveBytes[activeSlab] > 0) {
+            evictSlab(activeSlab);
+        }
+        // Nesil, yeni yazmalardan ONCE artar: eski adresle okuyan thread dogrulamada fark eder
+        generations.incrementAndGet(activeSlab);
+        VarHandle.releaseFence();
+        recycledSlabs.increment();
+    }
+
+    private void evictSlab(int slab) {
+        ByteBuffer buffer = slabs[slab];
+        int generation = generations.get(slab) & GENERATION_MASK;
+        int offset = 0;
+        while (offset + RECORD_HEADER <= slabSize) {
+            int keyLength = buffer.getInt(offset);
+            int valueLength = buffer.getInt(offset + 4);
+            if (keyLength == END_OF_SLAB) {
+                break;
+            }
+            byte[] keyBytes = new byte[keyLength];
+            buffer.get(offset + RECORD_HEADER, keyBytes);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            if (index.remove(key, addressOf(slab, generation, offset))) {
+                evictions.increment();
+            }
+            offset += RECORD_HEADER + keyLength + valueLength;
+        }
+        liveBytes[slab] = 0;
+    }
+
+    private static long addressOf(int slab, int generation, int offset) {
+        return ((long) slab << 48) | ((long) generation << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 48);
+    }
+
+    private static int generationOf(long address) {
+        return (int) (address >>> 32) & GENERATION_MASK;
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+
+    // ==========================================
+    // ISTATISTIK
+    // ==========================================
+
+    public int size() {
+        return index.size();
+    }
+
+    public synchronized Stats stats() {
+        long live = 0;
+        for (long bytes : liveBytes) {
+            live += bytes;
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), recycledSlabs.sum(),
+                live, (long) slabSize * slabs.length);
+    }
+
+    public record Stats(long hitCount, long missCount, long evictionCount, long recycledSlabs,
+            long liveBytes, long capacityBytes) {
+    }
+
+    @Override
+    public void close() throws IOException {
+        index.clear();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
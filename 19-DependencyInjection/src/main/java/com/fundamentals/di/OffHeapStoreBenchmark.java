@@ -0,0 +1,133 @@
+package com.fundamentals.di;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * OFF-HEAP CACHE OLCUMU
+ *
+ * Heap ve off-heap (OffHeapStore) cache'te GC duraklamalari.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.OffHeapStoreBenchmark"
+ */
+public class OffHeapStoreBenchmark {
+
+    public static void main(String[] args) {
+        offHeapGcPauses();
+    }
+
+    // ==========================================
+    // 11. OFF-HEAP CACHE VE GC DURAKLAMALARI
+    // ==========================================
+
+    static final int GC_ENTRIES = 100_000;
+    static final int GC_VALUE_BYTES = 4 * 1024;
+    static final long GC_CHURN_MILLIS = 3_000;
+
+    /**
+     * ~400 MB'lik (100k x 4 KB) cache, her biri ayni ayarlarla yeni bir JVM'de
+     * (-Xmx1g) doldurulur, sonra 3 saniye okunur/guncellenir:
+     * - heap: BoundedCache<String, byte[]> (agirlik = byte)
+     * - off-heap: OffHeapStore (direct ByteBuffer slab'lari)
+     * Olcum sadece bu sure icindeki GC'leri kapsar (doldurma haric).
+     */
+    static void offHeapGcPauses() {
+        System.out.println("\n11. OFF-HEAP CACHE VE GC DURAKLAMALARI");
+        System.out.println("-".repeat(40));
+
+        List<String> jvmOptions = List.of("-Xmx1g", "-XX:MaxDirectMemorySize=1g");
+        System.out.printf("   %-10s %10s %10s %14s %14s %12s%n",
+                "Mod", "GC sayisi", "GC (ms)", "En uzun (ms)", "Heap (MB)", "ops/s");
+        for (String mode : new String[] { "heap", "off-heap" }) {
+            try {
+                String output = DIBenchmarks.runInNewJvm(jvmOptions, GcChurn.class, mode);
+                String[] fields = output.substring(output.lastIndexOf('\n') + 1).split(" ");
+                System.out.printf("   %-10s %10s %10s %14s %14s %,12d%n", mode,
+                        fields[0], fields[1], fields[2], fields[3], Long.parseLong(fields[4]));
+            } catch (IOException e) {
+                System.out.println("   [HATA] " + mode + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * offHeapGcPauses() tarafindan yeni JVM'de calistirilir. Tek satir:
+     * gcSayisi gcMs enUzunDuraklamaMs heapMb ops/s
+     */
+    static class GcChurn {
+        public static void main(String[] args) {
+            boolean offHeap = args[0].equals("off-heap");
+            BoundedCache<String, byte[]> heapCache = offHeap ? null
+                    : new BoundedCache.Builder<String, byte[]>()
+                            .maximumWeight((long) GC_ENTRIES * GC_VALUE_BYTES * 2, (k, v) -> v.length)
+                            .build();
+            OffHeapStore offHeapStore = offHeap ? OffHeapStore.direct(64 << 20, 10) : null;
+
+            String[] keys = new String[GC_ENTRIES];
+            for (int i = 0; i < GC_ENTRIES; i++) {
+                keys[i] = "urun-" + i;
+                byte[] value = new byte[GC_VALUE_BYTES];
+                if (offHeap) {
+                    offHeapStore.put(keys[i], value);
+                } else {
+                    heapCache.put(keys[i], value);
+                }
+            }
+            System.gc();
+
+            // Olcum: her GC'nin suresi bildirimle gelir
+            LongAccumulator longestPause = new LongAccumulator(Math::max, 0);
+            for (java.lang.management.GarbageCollectorMXBean gc
+                    : java.lang.management.ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((javax.management.NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                    if (notification.getType().equals(
+                            com.sun.management.GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                        longestPause.accumulate(com.sun.management.GarbageCollectionNotificationInfo
+                                .from((javax.management.openmbean.CompositeData) notification.getUserData())
+                                .getGcInfo().getDuration());
+                    }
+                }, null, null);
+            }
+            long[] before = gcTotals();
+
+            Random random = new Random(7);
+            long operations = 0;
+            long end = System.nanoTime() + GC_CHURN_MILLIS * 1_000_000;
+            while (System.nanoTime() < end) {
+                String key = keys[random.nextInt(GC_ENTRIES)];
+                if (random.nextInt(5) == 0) {
+                    // %20 guncelleme: eski deger cop olur
+                    byte[] value = new byte[GC_VALUE_BYTES];
+                    if (offHeap) {
+                        offHeapStore.put(key, value);
+                    } else {
+                        heapCache.put(key, value);
+                    }
+                } else {
+                    DIBenchmarks.blackhole = offHeap ? offHeapStore.get(key) : heapCache.get(key);
+                }
+                operations++;
+            }
+
+            long[] after = gcTotals();
+            long usedHeap = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            System.out.println((after[0] - before[0]) + " " + (after[1] - before[1]) + " " + longestPause.get()
+                    + " " + usedHeap / (1024 * 1024) + " " + operations * 1000 / GC_CHURN_MILLIS);
+        }
+
+        // {toplam GC sayisi, toplam GC suresi ms}
+        private static long[] gcTotals() {
+            long count = 0;
+            long millis = 0;
+            for (java.lang.management.GarbageCollectorMXBean gc
+                    : java.lang.management.ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += gc.getCollectionCount();
+                millis += gc.getCollectionTime();
+            }
+            return new long[] { count, millis };
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fundamentals.di;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ICACHE IMPLEMENTASYONLARININ HEAP DISI DEPOSU
+ *
+ * BoundedStringCache'in off-heap karsiligi: OffHeapCache siniflari bu
+ * sinifi genisletip kendi ICache'ini implement eder. Degerler heap disinda
+ * (OffHeapStore slab'lari), heap'te sadece anahtar indeksi tutulur.
+ *
+ * Heap'teki ICache'lerle ayni sozlesme: put(key, null) kabul edilir ve get
+ * null doner. OffHeapStore null deger saklamadigi icin null, gecerli bir
+ * UTF-8 kodlamasinda hic gecmeyen tek bir 0xFF byte'i ile tutulur.
+ * Anahtar null olamaz.
+ */
+class OffHeapStringCache {
+
+    private static final byte NULL_MARKER = (byte) 0xFF;
+    private static final byte[] NULL_VALUE = { NULL_MARKER };
+
+    private final OffHeapStore store;
+
+    OffHeapStringCache() {
+        this(OffHeapStore.direct(1 << 20, 16)); // 16 x 1 MB
+    }
+
+    // Farkli slab boyutu / mapped dosya icin hazir bir OffHeapStore verilebilir
+    OffHeapStringCache(OffHeapStore store) {
+        this.store = store;
+    }
+
+    public String get(String key) {
+        return decode(store.get(key));
+    }
+
+    // Anahtar hic yazilmadiysa (veya tahliye edildiyse) defaultValue; null yazildiysa null
+    String getOrDefault(String key, String defaultValue) {
+        byte[] value = store.get(key);
+        return value == null ? defaultValue : decode(value);
+    }
+
+    public void put(String key, String value) {
+        store.put(key, value == null ? NULL_VALUE : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(byte[] value) {
+        if (value == null || value.length == 1 && value[0] == NULL_MARKER) {
+            return null;
+        }
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,234 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * CALISIRKEN DEGISTIRILEBILEN PLUGIN KAYDI
+ *
+ * InterfaceInjection.IPlugin'ler, istek thread'leri onlari calistirirken
+ * yuklenebilir, degistirilebilir ve kaldirilabilir.
+ *
+ * - Okuma yolu (executeAll): volatile alandaki degismez anlik goruntuyu
+ *   (plugin dizisi) okur; kilit yok, kopyalama yok. Okuyucu bir kez aldigi
+ *   goruntuyu cagri boyunca kullanir.
+ * - Yazma (load/replace/unload): yeni goruntu kurulur ve tek bir volatile
+ *   yazma ile yayinlanir (copy-on-write). Yazarlar kendi aralarinda
+ *   synchronized ile sira bekler; okuyucular hic beklemez.
+ * - Bosaltma (drain): her goruntunun "icerideki cagri" sayaci vardir.
+ *   Yeni goruntu yayinlaninca eskisi emekliye ayrilir ve sayaci (ve hala
+ *   bosalmamis daha eski goruntulerin sayaclari) sifira inene kadar
+ *   beklenir. Sayaci artirdiktan sonra emeklilik bayragini goren okuyucu
+ *   guncel goruntuyu yeniden okur. Bu yuzden destroy() cagrildiktan sonra
+ *   plugin'e yeni cagri girmez.
+ *
+ * Sayac plugin basina degil executeAll basina bir kez artirilir: okuma
+ * yolunun maliyeti plugin sayisindan bagimsizdir. Sayac AtomicLong'dur,
+ * LongAdder degil: LongAdder.sum() anlik bir goruntu degildir (artirma ve
+ * azaltma farkli hucrelere dusebilir), icerideki bir cagri varken 0
+ * okunabilir ve destroy() erken cagrilirdi.
+ */
+public final class PluginRegistry {
+
+    private final InterfaceInjection.IPluginContext context;
+    private volatile Snapshot snapshot = new Snapshot(new Slot[0], null);
+    private final LongAdder failures = new LongAdder();
+
+    public PluginRegistry(InterfaceInjection.IPluginContext context) {
+        this.context = context;
+    }
+
+    // ==========================================
+    // OKUMA YOLU
+    // ==========================================
+
+    /**
+     * Yuklu tum plugin'leri kayit sirasinda calistirir. Bir plugin'in hatasi
+     * digerlerini durdurmaz; hata sayisi stats() ile okunur.
+     */
+    public void executeAll() {
+        Snapshot current = enter();
+        try {
+            for (Slot slot : current.slots) {
+                try {
+                    slot.plugin().execute();
+                } catch (RuntimeException e) {
+                    failures.increment();
+                }
+            }
+        } finally {
+            current.inFlight.decrementAndGet();
+        }
+    }
+
+    private Snapshot enter() {
+        while (true) {
+            Snapshot current = snapshot;
+            current.inFlight.incrementAndGet();
+            if (!current.retired) {
+                return current;
+            }
+            // Emekliye ayrilmis goruntu: yazar bosaltmayi bekliyor, yenisini al
+            current.inFlight.decrementAndGet();
+        }
+    }
+
+    public List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Slot slot : snapshot.slots) {
+            names.add(slot.name());
+        }
+        return names;
+    }
+
+    // ==========================================
+    // YAZMA YOLU
+    // ==========================================
+
+    /**
+     * Context'i inject eder, initialize() cagirir ve plugin'i sona ekler.
+     */
+    public void load(String name, InterfaceInjection.IPlugin plugin) {
+        Slot slot = prepare(name, plugin);
+        Snapshot previous;
+        synchronized (this) {
+            if (indexOf(name) >= 0) {
+                throw new IllegalStateException("Plugin zaten yuklu: " + name);
+            }
+            Slot[] current = snapshot.slots;
+            Slot[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = slot;
+            previous = publish(next);
+        }
+        // Eklemede bosaltilacak plugin yok; eski goruntu sadece emekliye ayrilir
+        previous.retired = true;
+    }
+
+    /**
+     * Plugin'i ayni sirada yenisiyle atomik olarak degistirir; eski plugin
+     * bosaltilip destroy edilir. Eski plugin zamaninda bosalmazsa false
+     * doner ve destroy() cagrilmaz (hala icinde cagri vardir).
+     */
+    public boolean replace(String name, InterfaceInjection.IPlugin plugin, Duration drainTimeout) {
+        Slot slot = prepare(name, plugin);
+        Snapshot previous;
+        Slot removed;
+        synchronized (this) {
+            int index = requireIndex(name);
+            Slot[] next = snapshot.slots.clone();
+            removed = next[index];
+            next[index] = slot;
+            previous = publish(next);
+        }
+        return retire(previous, removed, drainTimeout);
+    }
+
+    /**
+     * Plugin'i kaldirir; icerideki cagrilar bitince destroy() cagrilir.
+     * Zamaninda bosalmazsa false (plugin yine de artik yeni cagri almaz).
+     */
+    public boolean unload(String name, Duration drainTimeout) {
+        Snapshot previous;
+        Slot removed;
+        synchronized (this) {
+            int index = requireIndex(name);
+            Slot[] current = snapshot.slots;
+            Slot[] next = new Slot[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            removed = current[index];
+            previous = publish(next);
+        }
+        return retire(previous, removed, drainTimeout);
+    }
+
+    private Slot prepare(String name, InterfaceInjection.IPlugin plugin) {
+        // Interface injection: yayinlanmadan once, tek thread'de
+        if (plugin instanceof InterfaceInjection.IContextAware contextAware) {
+            contextAware.setContext(context);
+        }
+        plugin.initialize();
+        return new Slot(name, plugin);
+    }
+
+    // synchronized altinda; onceki goruntuyu dondurur
+    private Snapshot publish(Slot[] slots) {
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(slots, previous);
+        return previous;
+    }
+
+    // synchronized altinda
+    private int indexOf(String name) {
+        Slot[] current = snapshot.slots;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].name().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int requireIndex(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            throw new IllegalStateException("Plugin yuklu degil: " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Eski goruntuyu ve ondan once hala bosalmamis olanlari bekler:
+     * zaman asimina ugramis eski bir cagri kaldirilan plugin'i kullaniyor olabilir.
+     */
+    private boolean retire(Snapshot previous, Slot removed, Duration timeout) {
+        // volatile yazma, ardindan sayac okuma: okuyucunun "artir, sonra bayragi oku" sirasinin tersi
+        previous.retired = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Snapshot old = previous; old != null; old = old.previous) {
+            while (old.inFlight.get() != 0) {
+                if (System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            }
+        }
+        previous.previous = null; // Hepsi bosaldi; zinciri birak
+        removed.plugin().destroy();
+        return true;
+    }
+
+    // ==========================================
+    // ISTATISTIK
+    // ==========================================
+
+    public Stats stats() {
+        return new Stats(snapshot.slots.length, failures.sum());
+    }
+
+    public record Stats(int loaded, long failures) {
+    }
+
+    private record Slot(String name, InterfaceInjection.IPlugin plugin) {
+    }
+
+    private static final class Snapshot {
+        private final Slot[] slots;
+        // Bosaltma karari bu sayaca dayanir: tutarli okunmali (bkz. sinif aciklamasi)
+        private final AtomicLong inFlight = new AtomicLong();
+        private volatile boolean retired;
+        // Bosaltmasi henuz dogrulanmamis onceki goruntu
+        private volatile Snapshot previous;
+
+        Snapshot(Slot[] slots, Snapshot previous) {
+            this.slots = slots;
+            this.previous = previous;
+        }
+    }
+}
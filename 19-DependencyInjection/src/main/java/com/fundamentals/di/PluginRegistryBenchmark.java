@@ -0,0 +1,121 @@
+package com.fundamentals.di;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PLUGIN KAYDI OLCUMU
+ *
+ * PluginRegistry: executeAll cagrisi basina ek maliyet.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.PluginRegistryBenchmark"
+ */
+public class PluginRegistryBenchmark {
+
+    public static void main(String[] args) {
+        pluginDispatch();
+    }
+
+    // ==========================================
+    // 20. PLUGIN KAYDI: CAGRI BASINA EK MALIYET
+    // ==========================================
+
+    static final int PLUGIN_COUNT = 3;
+
+    /**
+     * Uc bos plugin uzerinde executeAll: duz dizi (degistirilemez, alt sinir),
+     * PluginRegistry (kilitsiz goruntu + bosaltma sayaci), ReentrantReadWriteLock
+     * korumali liste ve CopyOnWriteArrayList (kilitsiz ama bosaltma yok).
+     * Son satirda arka planda her 1 ms'de bir plugin degistirilir.
+     */
+    static void pluginDispatch() {
+        System.out.println("\n20. PLUGIN KAYDI: CAGRI BASINA EK MALIYET");
+        System.out.println("-".repeat(40));
+
+        InterfaceInjection.IPlugin[] plugins = new InterfaceInjection.IPlugin[PLUGIN_COUNT];
+        PluginRegistry registry = new PluginRegistry(new InterfaceInjection.CountingContext());
+        List<InterfaceInjection.IPlugin> locked = new ArrayList<>();
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        List<InterfaceInjection.IPlugin> copyOnWrite = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < PLUGIN_COUNT; i++) {
+            plugins[i] = new NoOpPlugin();
+            registry.load("p" + i, plugins[i]);
+            locked.add(plugins[i]);
+            copyOnWrite.add(plugins[i]);
+        }
+
+        Map<String, Runnable> variants = new LinkedHashMap<>();
+        variants.put("Duz dizi", () -> {
+            for (InterfaceInjection.IPlugin plugin : plugins) {
+                plugin.execute();
+            }
+        });
+        variants.put("PluginRegistry", registry::executeAll);
+        variants.put("ReadWriteLock", () -> {
+            lock.readLock().lock();
+            try {
+                for (InterfaceInjection.IPlugin plugin : locked) {
+                    plugin.execute();
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+        variants.put("CopyOnWriteArrayList", () -> {
+            for (InterfaceInjection.IPlugin plugin : copyOnWrite) {
+                plugin.execute();
+            }
+        });
+
+        System.out.printf("   %-22s %8s %16s %14s%n", "Kayit", "Thread", "executeAll/s", "ns/plugin");
+        for (int threads : new int[] { 1, 4 }) {
+            for (Map.Entry<String, Runnable> variant : variants.entrySet()) {
+                pluginRun(variant.getKey(), threads, variant.getValue());
+            }
+        }
+
+        AtomicBoolean swapping = new AtomicBoolean(true);
+        LongAdder swaps = new LongAdder();
+        Thread swapper = new Thread(() -> {
+            while (swapping.get()) {
+                registry.replace("p1", new NoOpPlugin(), Duration.ofSeconds(1));
+                swaps.increment();
+                LockSupport.parkNanos(1_000_000);
+            }
+        });
+        swapper.setDaemon(true);
+        swapper.start();
+        pluginRun("Registry + 1 ms swap", 4, registry::executeAll);
+        swapping.set(false);
+        System.out.printf("   Olcum sirasinda %,d degistirme, %d hata%n", swaps.sum(), registry.stats().failures());
+    }
+
+    private static void pluginRun(String name, int threads, Runnable executeAll) {
+        double ops = DIBenchmarks.throughput(threads, executeAll);
+        // Cekirdek basina: 1 CPU'lu makinede 4 thread ayni zamani paylasir
+        double perCore = ops / Math.min(threads, Runtime.getRuntime().availableProcessors());
+        System.out.printf("   %-22s %8d %,16.0f %14.1f%n", name, threads, ops, 1e9 / perCore / PLUGIN_COUNT);
+    }
+
+    static class NoOpPlugin implements InterfaceInjection.IPlugin {
+        private long calls;
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void execute() {
+            calls++; // Yarisli artis kasitli: sadece JIT'in cagriyi silmemesi icin
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.fundamentals.di;
 
 import java.lang.annotation.*;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @Qualifier ANNOTATION KULLANIMI
@@ -22,6 +24,8 @@ public class QualifierAnnotation {
         solutionWithQualifier();
         qualifierWithContainer();
         namedQualifierExample();
+        notificationFanOut();
+        idempotentPayments();
     }
 
     // ==========================================
@@ -127,6 +131,36 @@ public class QualifierAnnotation {
         push.send("Push bildirimi");
     }
 
+    // ==========================================
+    // 5. BILDIRIM FAN-OUT
+    // ==========================================
+
+    /**
+     * Qualifier ile cozulen tum kanallar NotificationDispatcher'a verilir;
+     * bir olay uc kanala ayni anda gider, siralama kanal hizina baglidir.
+     */
+    static void notificationFanOut() {
+        System.out.println("\n5. BILDIRIM FAN-OUT");
+        System.out.println("-".repeat(40));
+
+        QualifierContainer container = new QualifierContainer();
+        container.register(INotificationService.class, "email", new EmailNotification());
+        container.register(INotificationService.class, "sms", new SmsNotification());
+        container.register(INotificationService.class, "push", new PushNotification());
+
+        NotificationDispatcher.ChannelOptions options = NotificationDispatcher.ChannelOptions.of(100, 1)
+                .retry(3, Duration.ofMillis(10));
+        NotificationDispatcher.Builder builder = new NotificationDispatcher.Builder();
+        for (String qualifier : List.of("email", "sms", "push")) {
+            builder.channel(qualifier, container.resolve(INotificationService.class, qualifier), options);
+        }
+
+        try (NotificationDispatcher dispatcher = builder.build()) {
+            dispatcher.dispatch("Siparisiniz kargoya verildi");
+            dispatcher.dispatch("Siparisiniz teslim edildi");
+        }
+    }
+
     // ==========================================
     // CUSTOM @QUALIFIER ANNOTATION
     // ==========================================
@@ -142,12 +176,87 @@ public class QualifierAnnotation {
     @interface Inject {
     }
 
+    // ==========================================
+    // 6. IDEMPOTENT ODEME
+    // ==========================================
+
+    /**
+     * Qualifier ile secilen gateway IPaymentGateway.idempotent ile sarilir.
+     * Istemcinin tekrar denemesi ve ayni anda gelen kopyalar gateway'e
+     * tek cagri olarak gider.
+     */
+    static void idempotentPayments() {
+        System.out.println("\n6. IDEMPOTENT ODEME");
+        System.out.println("-".repeat(40));
+
+        IdempotencyStore<Void> store = new IdempotencyStore.Builder<Void>()
+                .maximumKeys(100_000)
+                .retention(Duration.ofHours(24))
+                .build();
+        // Gercek gateway gibi ~50 ms suren cagri: eszamanli kopyalar ayni ana denk gelir
+        IPaymentGateway stripe = new StripePayment();
+        IPaymentGateway slowStripe = amount -> {
+            DIContainer.sleep(50);
+            stripe.processPayment(amount);
+        };
+        PaymentService service = new PaymentService(IPaymentGateway.idempotent(slowStripe, store));
+
+        service.pay("siparis-1001", 49.90);
+        service.pay("siparis-1001", 49.90); // Zaman asimi sonrasi istemci tekrari
+
+        // Ayni anahtarla 8 eszamanli istek (cift tiklama, yuk dengeleyici tekrari)
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread client = new Thread(() -> service.pay("siparis-1002", 120.0));
+            clients.add(client);
+            client.start();
+        }
+        for (Thread client : clients) {
+            try {
+                client.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            service.pay("siparis-1001", 99.90);
+        } catch (IllegalStateException e) {
+            System.out.println("   Reddedildi: " + e.getMessage());
+        }
+
+        IdempotencyStore.Stats stats = store.stats();
+        System.out.printf("   Gateway cagrisi: %d, cache'ten tekrar: %d, birlestirilen kopya: %d%n",
+                stats.executions(), stats.replays(), stats.collapsed());
+    }
+
     // ==========================================
     // INTERFACE VE IMPLEMENTASYONLAR
     // ==========================================
 
     interface IPaymentGateway {
         void processPayment(double amount);
+
+        default void processPayment(String idempotencyKey, double amount) {
+            processPayment(amount);
+        }
+
+        // Ayni anahtarla gelen tekrarlari ve eszamanli kopyalari tek gateway cagrisina indirir
+        static IPaymentGateway idempotent(IPaymentGateway delegate, IdempotencyStore<Void> store) {
+            IdempotentGateway<IPaymentGateway> guard =
+                    new IdempotentGateway<>(delegate, IPaymentGateway::processPayment, store);
+            return new IPaymentGateway() {
+                @Override
+                public void processPayment(double amount) {
+                    guard.pay(amount);
+                }
+
+                @Override
+                public void processPayment(String idempotencyKey, double amount) {
+                    guard.pay(idempotencyKey, amount);
+                }
+            };
+        }
     }
 
     static class StripePayment implements IPaymentGateway {
@@ -210,6 +319,10 @@ public class QualifierAnnotation {
         public void pay(double amount) {
             gateway.processPayment(amount);
         }
+
+        public void pay(String idempotencyKey, double amount) {
+            gateway.processPayment(idempotencyKey, amount);
+        }
     }
 
     // @Qualifier kullanilan servis
@@ -230,23 +343,61 @@ public class QualifierAnnotation {
     // QUALIFIER DESTEKLI CONTAINER
     // ==========================================
 
+    /**
+     * Kayitlar iki seviyeli tutulur: tip -> (qualifier -> instance).
+     * Lookup'ta "tip#qualifier" gibi yeni bir String birlestirilmez;
+     * Class ve qualifier String'inin hash'i cache'li oldugundan
+     * resolve hic nesne ayirmaz (0 B/op).
+     *
+     * ConcurrentHashMap null anahtar/deger kabul etmez; null qualifier
+     * NO_QUALIFIER ile tutulur, null instance kaydi siler (resolve null doner).
+     *
+     * createWithQualifiers sadece hem @Inject hem @Qualifier tasiyan
+     * field'lari doldurur; uretilmis injector da ayni kurala uyar (qualifier'i
+     * olmayan field icin kaynak null doner, field atlanir).
+     */
     static class QualifierContainer {
-        private final Map<String, Object> registry = new HashMap<>();
+        private static final Object NO_QUALIFIER = new Object();
+        // Sadece QualifierAnnotation.Inject icin uretilmis injector'lar
+        private static final InjectorRegistry INJECTORS = new InjectorRegistry(Inject.class);
+
+        private final Map<Class<?>, Map<Object, Object>> registry = new ConcurrentHashMap<>();
+        private final GeneratedInjector.DependencySource source =
+                (type, qualifier) -> qualifier == null ? null : resolve(type, qualifier);
 
         public <T> void register(Class<T> type, String qualifier, T instance) {
-            String key = type.getName() + "#" + qualifier;
-            registry.put(key, instance);
+            Map<Object, Object> byQualifier =
+                    registry.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+            Object key = qualifier == null ? NO_QUALIFIER : qualifier;
+            if (instance == null) {
+                byQualifier.remove(key);
+            } else {
+                byQualifier.put(key, instance);
+            }
         }
 
         @SuppressWarnings("unchecked")
         public <T> T resolve(Class<T> type, String qualifier) {
-            String key = type.getName() + "#" + qualifier;
-            return (T) registry.get(key);
+            Map<Object, Object> byQualifier = registry.get(type);
+            if (byQualifier == null) {
+                return null;
+            }
+            return (T) byQualifier.get(qualifier == null ? NO_QUALIFIER : qualifier);
         }
 
         @SuppressWarnings("unchecked")
         public <T> T createWithQualifiers(Class<T> clazz) {
+            // Iki yolda da hata ayni sekilde sarmalanir
             try {
+                // Derleme zamaninda uretilmis injector varsa reflection kullanilmaz
+                Optional<GeneratedInjector<T>> generated = INJECTORS.find(clazz);
+                if (generated.isPresent()) {
+                    GeneratedInjector<T> injector = generated.get();
+                    T instance = injector.create();
+                    injector.inject(instance, source);
+                    return instance;
+                }
+
                 T instance = clazz.getDeclaredConstructor().newInstance();
 
                 for (Field field : clazz.getDeclaredFields()) {
@@ -0,0 +1,50 @@
+package com.fundamentals.di;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * QUALIFIER LOOKUP OLCUMU
+ *
+ * QualifierContainer lookup'inin islem basina ayirdigi bellek.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.QualifierAnnotationBenchmark"
+ */
+public class QualifierAnnotationBenchmark {
+
+    public static void main(String[] args) {
+        qualifierLookupAllocation();
+    }
+
+    // ==========================================
+    // 5. QUALIFIER LOOKUP - ALLOCATION
+    // ==========================================
+
+    /**
+     * Eski yol: her resolve'da type.getName() + "#" + qualifier String'i.
+     * Yeni yol: tip -> qualifier map'i, hic allocation yok.
+     */
+    static void qualifierLookupAllocation() {
+        System.out.println("\n5. QUALIFIER LOOKUP - ALLOCATION");
+        System.out.println("-".repeat(40));
+
+        QualifierAnnotation.QualifierContainer container = new QualifierAnnotation.QualifierContainer();
+        Map<String, Object> legacy = new HashMap<>();
+        for (String qualifier : new String[] { "email", "sms", "push" }) {
+            QualifierAnnotation.INotificationService service = new QualifierAnnotation.EmailNotification();
+            container.register(QualifierAnnotation.INotificationService.class, qualifier, service);
+            legacy.put(QualifierAnnotation.INotificationService.class.getName() + "#" + qualifier, service);
+        }
+
+        Runnable legacyLookup = () -> DIBenchmarks.blackhole = legacy.get(
+                QualifierAnnotation.INotificationService.class.getName() + "#" + "sms");
+        Runnable indexedLookup = () -> DIBenchmarks.blackhole = container.resolve(
+                QualifierAnnotation.INotificationService.class, "sms");
+
+        System.out.printf("   %-22s %,15.0f ops/s %8.1f B/op%n", "String anahtar (eski)",
+                DIBenchmarks.throughput(1, legacyLookup), DIBenchmarks.allocatedBytesPerOp(legacyLookup));
+        System.out.printf("   %-22s %,15.0f ops/s %8.1f B/op%n", "Tip -> qualifier map",
+                DIBenchmarks.throughput(1, indexedLookup), DIBenchmarks.allocatedBytesPerOp(indexedLookup));
+    }
+}
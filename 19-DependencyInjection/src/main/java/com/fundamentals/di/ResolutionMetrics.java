@@ -0,0 +1,287 @@
+package com.fundamentals.di;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DI CONTAINER METRIKLERI
+ *
+ * Container'a enableMetrics(...) ile baglanir; baglanmadiysa container
+ * sadece null olan bir alani okur, baska maliyet yoktur.
+ *
+ * Toplananlar (tip basina):
+ * - resolve sayisi ve gecikme histogrami (2'nin kuvvetleri, nanosaniye)
+ * - singleton cache hit/miss
+ * - constructor/factory calisma suresi (bagimliliklar haric)
+ * - en derin resolve zinciri
+ *
+ * Maliyet: sayaclar (LongAdder) resolve basina birkac ns'dir; asil maliyet
+ * saat okumasidir. Zamanlanan her resolve iki System.nanoTime okur (sanal
+ * makinelerde okuma basina 20-70 ns olabilir). Constructor suresi ayrica
+ * olculmez: seviyenin toplam suresinden alt resolve'larin suresi cikarilir.
+ * Daha da ucuz olmasi icin new ResolutionMetrics(n) ile sadece her n'inci
+ * kok resolve (tum alt agaciyla) zamanlanir; sayilar yine tamdir, histogram
+ * ve constructor ortalamasi orneklemden gelir.
+ *
+ * Aktif bir JFR kaydi varsa her resolve "com.fundamentals.di.Resolve"
+ * olayi olarak da yazilir (jcmd <pid> JFR.start veya -XX:StartFlightRecording).
+ */
+public final class ResolutionMetrics {
+
+    // Bucket i: [2^i, 2^(i+1)) ns; son bucket ~1 saniye ve ustu
+    static final int BUCKETS = 31;
+
+    // JFR kaydi yokken olay nesnesi hic olusturulmaz
+    private static final ResolveEvent JFR_PROBE = new ResolveEvent();
+
+    private final Map<Class<?>, TypeStats> stats = new ConcurrentHashMap<>();
+    // Hot path: map aramasi yerine sinifa bagli alan; snapshot icin map'e de yazilir
+    private final ClassValue<TypeStats> statsByType = new ClassValue<>() {
+        @Override
+        protected TypeStats computeValue(Class<?> type) {
+            return stats.computeIfAbsent(type, k -> new TypeStats());
+        }
+    };
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final int sampleEvery;
+    // Thread basina resolve zinciri; metrics nesnesiyle birlikte toplanir (weak key)
+    private final ThreadLocal<Frame> frames = ThreadLocal.withInitial(Frame::new);
+
+    // Her resolve zamanlanir
+    public ResolutionMetrics() {
+        this(1);
+    }
+
+    // Sadece her sampleEvery'inci kok resolve zamanlanir
+    public ResolutionMetrics(int sampleEvery) {
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException("sampleEvery en az 1 olmali");
+        }
+        this.sampleEvery = sampleEvery;
+    }
+
+    // ==========================================
+    // CONTAINER TARAFINDAN CAGRILANLAR
+    // ==========================================
+
+    /**
+     * Resolve zincirine bir seviye girer. Donen Frame exit'e geri verilir;
+     * boylece ThreadLocal resolve basina bir kez okunur.
+     */
+    Frame enter() {
+        Frame frame = frames.get();
+        int level = frame.depth++;
+        if (level == 0) {
+            frame.sampled = ++frame.roots % sampleEvery == 0;
+        }
+        frame.push(level, frame.sampled ? System.nanoTime() : 0,
+                JFR_PROBE.isEnabled() ? beginEvent() : null);
+        return frame;
+    }
+
+    /**
+     * Seviyeden cikar. Sure, alt resolve'lar icin kullanilan saat
+     * okumalarindan bagimsiz olarak tek bir okuma ile hesaplanir.
+     */
+    void exit(Frame frame, Class<?> type) {
+        int level = --frame.depth;
+        TypeStats typeStats = statsFor(type);
+        typeStats.resolves.increment();
+        if (level > frame.deepest) {
+            frame.deepest = level;
+            maxDepth.accumulate(level);
+        }
+
+        boolean constructed = frame.constructed[level];
+        if (constructed) {
+            typeStats.constructions.increment();
+            frame.constructed[level] = false;
+        }
+        if (frame.sampled) {
+            long total = System.nanoTime() - frame.start[level];
+            typeStats.latency[bucketOf(total)].increment();
+            if (constructed) {
+                // Bagimliliklar haric: alt seviyelerin suresi cikarilir
+                typeStats.timedConstructions.increment();
+                typeStats.constructionNanos.add(total - frame.children[level]);
+            }
+            frame.children[level] = 0;
+            if (level > 0) {
+                frame.children[level - 1] += total;
+            }
+        }
+
+        ResolveEvent event = frame.events[level];
+        if (event != null) {
+            frame.events[level] = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.serviceType = type.getName();
+                event.depth = level;
+                event.commit();
+            }
+        }
+    }
+
+    private static ResolveEvent beginEvent() {
+        ResolveEvent event = new ResolveEvent();
+        event.begin();
+        return event;
+    }
+
+    void recordSingleton(Class<?> type, boolean hit) {
+        TypeStats typeStats = statsFor(type);
+        (hit ? typeStats.singletonHits : typeStats.singletonMisses).increment();
+    }
+
+    /**
+     * Mevcut resolve seviyesinde constructor/factory calisti. Resolve disinda
+     * (orn. lazy proxy'nin ilk cagrisi) yapilan olusturmalar sayilmaz.
+     */
+    void recordConstruction() {
+        Frame frame = frames.get();
+        if (frame.depth > 0) {
+            frame.constructed[frame.depth - 1] = true;
+        }
+    }
+
+    private TypeStats statsFor(Class<?> type) {
+        return statsByType.get(type);
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos <= 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    // ==========================================
+    // SNAPSHOT
+    // ==========================================
+
+    public Snapshot snapshot() {
+        Map<Class<?>, TypeSnapshot> types = new LinkedHashMap<>();
+        stats.forEach((type, s) -> {
+            long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = s.latency[i].sum();
+            }
+            types.put(type, new TypeSnapshot(s.resolves.sum(), s.singletonHits.sum(), s.singletonMisses.sum(),
+                    s.constructions.sum(), s.timedConstructions.sum(), s.constructionNanos.sum(), histogram));
+        });
+        return new Snapshot(Collections.unmodifiableMap(types), (int) maxDepth.get());
+    }
+
+    public record Snapshot(Map<Class<?>, TypeSnapshot> types, int maxDepth) {
+
+        // En cok resolve edilen tipler
+        public List<Map.Entry<Class<?>, TypeSnapshot>> top(int limit) {
+            return types.entrySet().stream()
+                    .sorted(Comparator.comparingLong(
+                            (Map.Entry<Class<?>, TypeSnapshot> e) -> e.getValue().resolves()).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    /**
+     * Ornekleme acikken latencyHistogram ve constructionNanos sadece zamanlanan
+     * resolve'lari kapsar (timedConstructions); sayilar her zaman tamdir.
+     */
+    public record TypeSnapshot(long resolves, long singletonHits, long singletonMisses,
+            long constructions, long timedConstructions, long constructionNanos, long[] latencyHistogram) {
+
+        public double singletonHitRatio() {
+            long total = singletonHits + singletonMisses;
+            return total == 0 ? 0 : (double) singletonHits / total;
+        }
+
+        public long averageConstructionNanos() {
+            return timedConstructions == 0 ? 0 : constructionNanos / timedConstructions;
+        }
+
+        /**
+         * Histogramdan yaklasik yuzdelik (bucket ust siniri, ns).
+         */
+        public long percentileNanos(double percentile) {
+            long total = Arrays.stream(latencyHistogram).sum();
+            long threshold = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < latencyHistogram.length; i++) {
+                seen += latencyHistogram[i];
+                if (seen >= threshold && seen > 0) {
+                    return 1L << (i + 1);
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static final class TypeStats {
+        final LongAdder resolves = new LongAdder();
+        final LongAdder singletonHits = new LongAdder();
+        final LongAdder singletonMisses = new LongAdder();
+        final LongAdder constructions = new LongAdder();
+        final LongAdder timedConstructions = new LongAdder();
+        final LongAdder constructionNanos = new LongAdder();
+        final LongAdder[] latency = new LongAdder[BUCKETS];
+
+        TypeStats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                latency[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Thread basina resolve zinciri: seviye basina baslangic zamani, alt
+     * seviyelerin toplam suresi, constructor calisti mi ve JFR olayi.
+     */
+    static final class Frame {
+        private int depth;
+        private int deepest; // Bu thread'in maxDepth'e bildirdigi en buyuk deger
+        private long roots;
+        private boolean sampled;
+        private long[] start = new long[16];
+        private long[] children = new long[16];
+        private boolean[] constructed = new boolean[16];
+        private ResolveEvent[] events = new ResolveEvent[16];
+
+        private void push(int level, long startNanos, ResolveEvent event) {
+            if (level == start.length) {
+                int size = level * 2;
+                start = Arrays.copyOf(start, size);
+                children = Arrays.copyOf(children, size);
+                constructed = Arrays.copyOf(constructed, size);
+                events = Arrays.copyOf(events, size);
+            }
+            start[level] = startNanos;
+            events[level] = event;
+        }
+    }
+
+    // ==========================================
+    // JFR OLAYI
+    // ==========================================
+
+    @Name("com.fundamentals.di.Resolve")
+    @Label("DI Resolve")
+    @Category({ "Java Fundamentals", "Dependency Injection" })
+    @Description("Container.resolve cagrisi")
+    static class ResolveEvent extends Event {
+        @Label("Servis Tipi")
+        String serviceType;
+
+        @Label("Derinlik")
+        int depth;
+    }
+}
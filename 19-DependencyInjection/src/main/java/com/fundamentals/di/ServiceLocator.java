@@ -1,6 +1,7 @@
 package com.fundamentals.di;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SERVICE LOCATOR PATTERN
@@ -45,27 +46,50 @@ public class ServiceLocator {
         SimpleServiceLocator.clear();
     }
 
+    /**
+     * Her servis tipi icin ClassValue ile bagli bir slot tutulur.
+     * get(): ClassValue.get (tip basina cache'li) + tek volatile okuma.
+     * register(): tek volatile yazma - atomik ve tum thread'lere gorunur.
+     * Plugin yuklenirken eszamanli kayit guvenlidir.
+     * register/clear birbirine karsi kilitlidir: clear sirasinda gelen bir
+     * kayit, registered'da olmayan dolu bir slot birakamaz. get kilit almaz.
+     */
     static class SimpleServiceLocator {
-        private static final Map<Class<?>, Object> services = new HashMap<>();
+        private static final ClassValue<ServiceSlot> slots = new ClassValue<>() {
+            @Override
+            protected ServiceSlot computeValue(Class<?> type) {
+                return new ServiceSlot();
+            }
+        };
+        // clear() icin kayitli tipler; register/clear kilidi altinda
+        private static final Set<Class<?>> registered = new HashSet<>();
 
-        public static <T> void register(Class<T> type, T implementation) {
-            services.put(type, implementation);
+        public static synchronized <T> void register(Class<T> type, T implementation) {
+            registered.add(type);
+            slots.get(type).instance = implementation;
         }
 
         @SuppressWarnings("unchecked")
         public static <T> T get(Class<T> type) {
-            T service = (T) services.get(type);
+            T service = (T) slots.get(type).instance;
             if (service == null) {
                 throw new RuntimeException("Servis bulunamadi: " + type.getName());
             }
             return service;
         }
 
-        public static void clear() {
-            services.clear();
+        public static synchronized void clear() {
+            for (Class<?> type : registered) {
+                slots.get(type).instance = null;
+            }
+            registered.clear();
         }
     }
 
+    static final class ServiceSlot {
+        volatile Object instance;
+    }
+
     // Service Locator kullanan sinif - BAGIMLILIKLAR GIZLI!
     static class OrderProcessor {
         public void processOrder(String orderId) {
@@ -244,15 +268,32 @@ public class ServiceLocator {
                 """);
     }
 
+    /**
+     * Copy-on-write: okumalar degismez bir snapshot uzerinden yapilir
+     * (volatile okuma + Map.get, kilit yok). Kayit, yeni snapshot'i
+     * olusturup tek bir volatile yazma ile yayinlar.
+     *
+     * Map.copyOf null anahtar/deger kabul etmez; bu yuzden null kayit
+     * acik bir mesajla reddedilir. get(null) ise eskisi gibi null doner.
+     */
     static class ModernContainer {
-        private final Map<Class<?>, Object> services = new HashMap<>();
+        private volatile Map<Class<?>, Object> services = Map.of();
 
-        public <T> void register(Class<T> type, T impl) {
-            services.put(type, impl);
+        public synchronized <T> void register(Class<T> type, T impl) {
+            if (type == null || impl == null) {
+                throw new IllegalArgumentException(
+                        "Servis tipi ve implementasyonu null olamaz: " + type);
+            }
+            Map<Class<?>, Object> next = new HashMap<>(services);
+            next.put(type, impl);
+            services = Map.copyOf(next);
         }
 
         @SuppressWarnings("unchecked")
         public <T> T get(Class<T> type) {
+            if (type == null) {
+                return null;
+            }
             return (T) services.get(type);
         }
     }
@@ -296,8 +337,23 @@ public class ServiceLocator {
     }
 
     static class InMemoryDatabase implements IDatabase {
+        private final DurableStore durable; // null = kayitlar saklanmaz
+        private final AtomicLong nextId; // Eszamanli save'ler ayni ID'yi almasin
+
+        InMemoryDatabase() {
+            this(null);
+        }
+
+        InMemoryDatabase(DurableStore durable) {
+            this.durable = durable;
+            this.nextId = new AtomicLong(durable != null ? durable.nextSequence("ID-") : 0);
+        }
+
         @Override
         public void save(String data) {
+            if (durable != null) {
+                durable.put("ID-" + nextId.getAndIncrement(), data);
+            }
             System.out.println("   [DB] Kaydedildi: " + data);
         }
     }
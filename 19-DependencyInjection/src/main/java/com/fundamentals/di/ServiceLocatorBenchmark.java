@@ -0,0 +1,66 @@
+package com.fundamentals.di;
+
+import java.util.HashMap;
+
+/**
+ * SERVICE LOCATOR OLCUMU
+ *
+ * ServiceLocator okuma yolu, arka planda kayit yapilirken.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.ServiceLocatorBenchmark"
+ */
+public class ServiceLocatorBenchmark {
+
+    public static void main(String[] args) {
+        serviceLocatorContention();
+    }
+
+    // ==========================================
+    // 6. SERVICE LOCATOR - ESZAMANLI OKUMA/KAYIT
+    // ==========================================
+
+    /**
+     * Okuyucu thread'ler get() cagirirken arka planda bir thread surekli
+     * kayit yapar (plugin yukleme). Eski HashMap bu durumda guvenli degil;
+     * guvenli karsiligi olarak synchronizedMap olculur.
+     */
+    static void serviceLocatorContention() {
+        System.out.println("\n6. SERVICE LOCATOR - ESZAMANLI OKUMA/KAYIT");
+        System.out.println("-".repeat(40));
+
+        ServiceLocator.ILogger logger = new ServiceLocator.ConsoleLogger();
+        java.util.Map<Class<?>, Object> synchronizedMap = java.util.Collections.synchronizedMap(new java.util.HashMap<>());
+        ServiceLocator.ModernContainer container = new ServiceLocator.ModernContainer();
+
+        Runnable register = () -> {
+            synchronizedMap.put(ServiceLocator.ILogger.class, logger);
+            container.register(ServiceLocator.ILogger.class, logger);
+            ServiceLocator.SimpleServiceLocator.register(ServiceLocator.ILogger.class, logger);
+        };
+        register.run();
+
+        Thread writer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                register.run();
+                DIContainer.sleep(1);
+            }
+        });
+        writer.setDaemon(true);
+        writer.start();
+
+        System.out.printf("   %-8s %18s %18s %18s%n", "Thread", "synchronizedMap", "Copy-on-write", "ClassValue");
+        for (int threads = 1; threads <= 16; threads *= 4) {
+            double locked = DIBenchmarks.throughput(threads,
+                    () -> DIBenchmarks.blackhole = synchronizedMap.get(ServiceLocator.ILogger.class));
+            double snapshot = DIBenchmarks.throughput(threads,
+                    () -> DIBenchmarks.blackhole = container.get(ServiceLocator.ILogger.class));
+            double classValue = DIBenchmarks.throughput(threads,
+                    () -> DIBenchmarks.blackhole = ServiceLocator.SimpleServiceLocator.get(ServiceLocator.ILogger.class));
+            System.out.printf("   %-8d %,18.0f %,18.0f %,18.0f%n", threads, locked, snapshot, classValue);
+        }
+
+        writer.interrupt();
+        ServiceLocator.SimpleServiceLocator.clear();
+    }
+}
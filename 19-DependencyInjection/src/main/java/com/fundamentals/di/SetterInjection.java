@@ -1,5 +1,7 @@
 package com.fundamentals.di;
 
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -130,6 +132,16 @@ public class SetterInjection {
         System.out.println("   Cache ile:");
         service2.getProduct("P002");
         service2.getProduct("P002"); // Cache'den gelir
+
+        System.out.println();
+
+        // Ayni interface, degerler heap disinda
+        ProductService service3 = new ProductService();
+        service3.setRepository(new ProductRepository());
+        service3.setCache(new OffHeapCache());
+        System.out.println("   Off-heap cache ile:");
+        service3.getProduct("P003");
+        service3.getProduct("P003");
     }
 
     interface IProductRepository {
@@ -150,12 +162,10 @@ public class SetterInjection {
         }
     }
 
-    static class InMemoryCache implements ICache {
-        private final Map<String, String> store = new HashMap<>();
-
+    static class InMemoryCache extends BoundedStringCache implements ICache {
         @Override
         public String get(String key) {
-            String value = store.get(key);
+            String value = super.get(key);
             if (value != null) {
                 System.out.println("   [Cache] HIT: " + key);
             }
@@ -164,11 +174,28 @@ public class SetterInjection {
 
         @Override
         public void put(String key, String value) {
-            store.put(key, value);
+            super.put(key, value);
             System.out.println("   [Cache] Yazildi: " + key);
         }
     }
 
+    static class OffHeapCache extends OffHeapStringCache implements ICache {
+        @Override
+        public String get(String key) {
+            String value = super.get(key);
+            if (value != null) {
+                System.out.println("   [Cache] HIT (off-heap): " + key);
+            }
+            return value;
+        }
+
+        @Override
+        public void put(String key, String value) {
+            super.put(key, value);
+            System.out.println("   [Cache] Yazildi (off-heap): " + key);
+        }
+    }
+
     static class ProductService {
         private IProductRepository repository; // Zorunlu
         private ICache cache; // Opsiyonel
@@ -230,6 +257,15 @@ public class SetterInjection {
         logger.setOutput(new ConsoleOutput());
         logger.log("Tekrar console'da");
 
+        // Asenkron cikis: log() hemen doner, yazma arka planda
+        try (AsyncOutput asyncOutput = new AsyncOutput()) {
+            logger.setOutput(asyncOutput);
+            for (int i = 1; i <= 3; i++) {
+                logger.log("Asenkron mesaj " + i);
+            }
+        }
+        logger.setOutput(new ConsoleOutput());
+
         System.out.println("\n   Not: Constructor injection'da final oldugu icin degisim mumkun degil.");
     }
 
@@ -251,6 +287,38 @@ public class SetterInjection {
         }
     }
 
+    /**
+     * Logger'a setter ile verilebilen asenkron cikis: write() mesaji sadece
+     * AsyncLogWriter'in halka tamponuna koyar, yazma arka planda ve toplu
+     * yapilir. Kapatilinca bekleyen mesajlar yazilir.
+     */
+    static class AsyncOutput implements IOutput, AutoCloseable {
+        private final AsyncLogWriter writer;
+
+        public AsyncOutput() {
+            this(new AsyncLogWriter.Builder().name("async-output")
+                    .build(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        }
+
+        public AsyncOutput(AsyncLogWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(String message) {
+            writer.log("   [Async] " + message);
+        }
+
+        public AsyncLogWriter.Stats stats() {
+            return writer.stats();
+        }
+
+        @Override
+        public void close() {
+            writer.close();
+        }
+    }
+
     static class Logger {
         private IOutput output;
 
@@ -0,0 +1,98 @@
+package com.fundamentals.di;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SNOWFLAKE TARZI ID URETECI
+ *
+ * 64 bit'lik, zamana gore artan ve tekil ID uretir; kilit kullanmaz.
+ *
+ * Yerlesim (isaret biti hep 0):
+ *   [zaman 41 bit][dugum 6 bit][serit 4 bit][sira 12 bit]
+ *
+ * - zaman: EPOCH'tan beri gecen milisaniye (~69 yil)
+ * - dugum: ayni anda ID ureten her surec/makine icin farkli olmali (0-63)
+ * - serit: thread'ler id'lerine gore 16 seritten birine dagilir; her seridin
+ *   kendi (zaman, sira) durumu vardir, boylece farkli cekirdekler ayni
+ *   AtomicLong uzerinde CAS yarisina girmez
+ * - sira: ayni milisaniyede seritteki siradaki numara (4096/ms/serit)
+ *
+ * Bir serit bir milisaniyede 4096 ID'yi doldurursa saati beklemek yerine
+ * bir sonraki milisaniyeyi "odunc" alir; saat geri giderse de serit kendi
+ * son zamanindan devam eder. Bu sayede surec icinde tekillik saate degil
+ * seridin monoton durumuna dayanir. Zaman alani duvar saatinin en fazla
+ * MAX_DRIFT_MILLIS ilerisine gidebilir; daha fazlasi icin saat yetisene
+ * kadar beklenir (seridin kalici ust hizi 4096 ID/ms).
+ */
+public final class TrackingIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH = 1_704_067_200_000L;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int STRIPE_BITS = 4;
+    private static final int NODE_BITS = 6;
+    private static final long MAX_DRIFT_MILLIS = 10;
+
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int NODE_SHIFT = SEQUENCE_BITS + STRIPE_BITS;
+    private static final int TIMESTAMP_SHIFT = NODE_SHIFT + NODE_BITS;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    // Her serit icin (zaman << SEQUENCE_BITS | sira); false sharing'i azaltmak icin 8 long aralikla
+    private static final int PADDING = 8;
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES * PADDING);
+    private final long nodeBits;
+
+    public TrackingIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 0-" + MAX_NODE_ID + " arasinda olmali: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << NODE_SHIFT;
+    }
+
+    public long nextId() {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        int slot = stripe * PADDING;
+        long now = System.currentTimeMillis() - EPOCH;
+        while (true) {
+            long state = stripes.get(slot);
+            long lastTime = state >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastTime) {
+                next = now << SEQUENCE_BITS;
+            } else if ((state & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = state + 1;
+            } else if (lastTime - now < MAX_DRIFT_MILLIS) {
+                // Bu milisaniye doldu (veya saat geri gitti): sonraki milisaniyeyi odunc al
+                next = (lastTime + 1) << SEQUENCE_BITS;
+            } else {
+                Thread.onSpinWait();
+                now = System.currentTimeMillis() - EPOCH;
+                continue;
+            }
+            if (stripes.compareAndSet(slot, state, next)) {
+                long time = next >>> SEQUENCE_BITS;
+                return (time << TIMESTAMP_SHIFT) | nodeBits | ((long) stripe << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Kisa, buyuk harfli gosterim (base36), orn. "TRK-" on eki ile takip numarasi.
+     */
+    public String nextIdString() {
+        return Long.toString(nextId(), Character.MAX_RADIX).toUpperCase(Locale.ROOT);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    public static int nodeOf(long id) {
+        return (int) (id >>> NODE_SHIFT) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fundamentals.di;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.LongSupplier;
+
+/**
+ * TAKIP NUMARASI OLCUMU
+ *
+ * TrackingIdGenerator: ID/s, tekrar ve zaman kaymasi.
+ *
+ * Calistirma:
+ * mvn compile exec:java -Dexec.mainClass="com.fundamentals.di.TrackingIdGeneratorBenchmark"
+ */
+public class TrackingIdGeneratorBenchmark {
+
+    public static void main(String[] args) {
+        trackingIds();
+    }
+
+    // ==========================================
+    // 14. TAKIP NUMARASI URETIMI
+    // ==========================================
+
+    static final int TRACKING_IDS = 4_000_000;
+
+    /**
+     * N thread toplam TRACKING_IDS ID uretir; hepsi siralanip tekrar aranir.
+     * Eski "TRK-" + currentTimeMillis() % 100000 yontemi ayni yukte
+     * karsilastirma icin olculur. Zaman kaymasi: en buyuk ID'deki zaman
+     * alaninin duvar saatinin ne kadar ilerisinde oldugu.
+     */
+    static void trackingIds() {
+        System.out.println("\n14. TAKIP NUMARASI URETIMI");
+        System.out.println("-".repeat(40));
+
+        System.out.printf("   %-22s %8s %14s %10s %12s%n", "Uretec", "Thread", "ID/s", "Tekrar", "Kayma ms");
+        for (int threads : new int[] { 1, 4, 16 }) {
+            TrackingIdGenerator generator = new TrackingIdGenerator(7);
+            idRun("Snowflake (CAS)", threads, generator::nextId);
+        }
+        idRun("currentTimeMillis%1e5", 4, () -> System.currentTimeMillis() % 100000);
+    }
+
+    private static void idRun(String name, int threads, LongSupplier ids) {
+        long[] all = new long[TRACKING_IDS];
+        int perThread = TRACKING_IDS / threads;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int from = t * perThread;
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = from; i < from + perThread; i++) {
+                    all[i] = ids.getAsLong();
+                }
+                done.countDown();
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        long start;
+        try {
+            ready.await();
+            start = System.nanoTime();
+            go.countDown();
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long wallClock = System.currentTimeMillis();
+
+        int count = perThread * threads;
+        long[] sorted = Arrays.copyOf(all, count);
+        Arrays.sort(sorted);
+        long duplicates = 0;
+        for (int i = 1; i < count; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                duplicates++;
+            }
+        }
+        String drift = sorted[count - 1] > 100000
+                ? String.valueOf(Math.max(0, TrackingIdGenerator.timestampOf(sorted[count - 1]) - wallClock))
+                : "-";
+        System.out.printf("   %-22s %8d %,14.0f %,10d %12s%n", name, threads, count / seconds, duplicates, drift);
+    }
+}
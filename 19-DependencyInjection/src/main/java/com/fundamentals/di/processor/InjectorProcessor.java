@@ -0,0 +1,228 @@
+package com.fundamentals.di.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * @INJECT ICIN DERLEME ZAMANI ANNOTATION PROCESSOR (JSR 269)
+ *
+ * Dagger'in yaklasimi: reflection'i runtime'dan derleme zamanina tasir.
+ * @Inject field'i olan her sinif icin GeneratedInjector implement eden bir
+ * "*_Injector" sinifi uretir. Her @Inject annotation'i ayri bir container
+ * sozlesmesidir: injector (sinif, annotation) cifti basina uretilir ve
+ * sadece o annotation'li field'lari doldurur; bir container digerinin
+ * injector'unu bulmaz. Ad: Sinif_Annotation_Injector, orn.
+ * FieldInjection_PaymentService_FieldInjection_Inject_Injector.
+ * - create(): dogrudan "new Tip()"
+ * - inject(): her field icin dogrudan atama (private field'lar icin
+ *   sinif yuklenirken bir kez olusturulan static final VarHandle)
+ *
+ * Field injection nesneyi parametresiz constructor ile olusturur; sinifta
+ * private olmayan bir parametresiz constructor yoksa (veya sinif abstract
+ * ya da static olmayan inner class ise) injector uretilmez, derleme hatasi
+ * verilir. Runtime'da patlayacak bir create() uretilmez.
+ *
+ * Processor, modulun geri kalanindan once ayri bir adimda derlenir
+ * (bkz. pom.xml, "compile-processor" execution).
+ */
+@SupportedAnnotationTypes({
+        "com.fundamentals.di.FieldInjection.Inject",
+        "com.fundamentals.di.QualifierAnnotation.Inject"
+})
+public class InjectorProcessor extends AbstractProcessor {
+
+    private static final String QUALIFIER = "Qualifier";
+    private static final String SUFFIX = "_Injector";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            // Sinif -> bu annotation'li field'lar (kaynak sirasiyla)
+            Map<TypeElement, List<VariableElement>> fieldsByType = new LinkedHashMap<>();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                VariableElement field = (VariableElement) element;
+                if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+                    error(field, "@Inject field static veya final olamaz");
+                    continue;
+                }
+                TypeElement owner = (TypeElement) field.getEnclosingElement();
+                fieldsByType.computeIfAbsent(owner, k -> new ArrayList<>()).add(field);
+            }
+
+            for (Map.Entry<TypeElement, List<VariableElement>> entry : fieldsByType.entrySet()) {
+                if (!hasAccessibleNoArgConstructor(entry.getKey())) {
+                    error(entry.getKey(), "@Inject field'li sinif private olmayan parametresiz constructor ile"
+                            + " olusturulabilmeli (abstract veya static olmayan inner class olamaz)");
+                    continue;
+                }
+                try {
+                    writeInjector(entry.getKey(), annotation, entry.getValue());
+                } catch (IOException e) {
+                    error(entry.getKey(), "Injector yazilamadi: " + e.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+
+    private void writeInjector(TypeElement type, TypeElement annotation, List<VariableElement> fields)
+            throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String annotationPackage =
+                processingEnv.getElementUtils().getPackageOf(annotation).getQualifiedName().toString();
+        String injectorName = flatName(type, packageName) + "_" + flatName(annotation, annotationPackage) + SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? injectorName : packageName + "." + injectorName, type);
+
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import java.lang.invoke.MethodHandles;");
+            out.println("import java.lang.invoke.VarHandle;");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("final class " + injectorName
+                    + " implements com.fundamentals.di.GeneratedInjector<" + typeName + "> {");
+
+            List<VariableElement> privateFields = fields.stream()
+                    .filter(f -> f.getModifiers().contains(Modifier.PRIVATE))
+                    .toList();
+            writeVarHandles(out, typeName, privateFields);
+
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + typeName + " create() {");
+            out.println("        return new " + typeName + "();");
+            out.println("    }");
+
+            out.println();
+            out.println("    @Override");
+            out.println("    public void inject(" + typeName + " instance, DependencySource source) {");
+            for (VariableElement field : fields) {
+                writeAssignment(out, field);
+            }
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private void writeVarHandles(PrintWriter out, String typeName, List<VariableElement> privateFields) {
+        if (privateFields.isEmpty()) {
+            return;
+        }
+        out.println();
+        for (VariableElement field : privateFields) {
+            out.println("    private static final VarHandle " + handleName(field) + ";");
+        }
+        out.println();
+        out.println("    static {");
+        out.println("        try {");
+        out.println("            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(");
+        out.println("                    " + typeName + ".class, MethodHandles.lookup());");
+        for (VariableElement field : privateFields) {
+            out.println("            " + handleName(field) + " = lookup.findVarHandle(" + typeName + ".class, \""
+                    + field.getSimpleName() + "\", " + erasure(field.asType()) + ".class);");
+        }
+        out.println("        } catch (ReflectiveOperationException e) {");
+        out.println("            throw new ExceptionInInitializerError(e);");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private void writeAssignment(PrintWriter out, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String local = name + "Dependency";
+        String fieldType = erasure(field.asType());
+        String qualifier = qualifierOf(field);
+
+        out.println("        Object " + local + " = source.get(" + fieldType + ".class, "
+                + (qualifier == null ? "null" : "\"" + escape(qualifier) + "\"") + ");");
+        out.println("        if (" + local + " != null) {");
+        if (field.getModifiers().contains(Modifier.PRIVATE)) {
+            out.println("            " + handleName(field) + ".set(instance, (" + fieldType + ") " + local + ");");
+        } else {
+            out.println("            instance." + name + " = (" + fieldType + ") " + local + ";");
+        }
+        out.println("            source.injected(\"" + name + "\");");
+        out.println("        }");
+    }
+
+    // @Qualifier("...") benzeri, "Qualifier" adli annotation'in value() degeri
+    private String qualifierOf(VariableElement field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().getSimpleName().contentEquals(QUALIFIER)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                    : mirror.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("value")) {
+                    return String.valueOf(value.getValue().getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean hasAccessibleNoArgConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) member).getParameters().isEmpty()
+                    && !member.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // FieldInjection.PaymentService -> FieldInjection_PaymentService
+    private static String flatName(TypeElement type, String packageName) {
+        String qualified = type.getQualifiedName().toString();
+        String relative = packageName.isEmpty() ? qualified : qualified.substring(packageName.length() + 1);
+        return relative.replace('.', '_');
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static String handleName(VariableElement field) {
+        return field.getSimpleName().toString()
+                .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+                .toUpperCase(Locale.ROOT);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}